@@ -0,0 +1,100 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import benchmarks.Workload;
+
+/**
+ * This class is used to measure an analysis from the request for its data to
+ * the dataset stored to the model. The data is served from a local store
+ * filled beforehand, so no request leaves the machine and every run is
+ * answered the same way.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see Strategy IndicatorStore
+ */
+public class AnalysisWorkload implements Workload {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 */
+	public AnalysisWorkload() {}
+	
+	@Override
+	/**
+	 * This function is used to fill a local store with every indicator used
+	 * by the analyses and point the World-Bank interface at it.
+	 *
+	 * @param parameter The type of analysis, from 1 to 8.
+	 * @throws Exception If the local store can't be made.
+	 */
+	public void setUp(String parameter) throws Exception {
+		Path directory = Files.createTempDirectory("indicator_store");
+		IndicatorStore store = new IndicatorStore(directory);
+		
+		for (int i = 0; i < indicators.length; i++) {
+			store.save(new IndicatorRecord(country, indicators[i], firstYear,
+					lastYear, SyntheticData.makeBuffer(firstYear, lastYear, i)));
+		}
+		
+		// The interface reads the location of the store when it is created.
+		System.setProperty("worldbank.store.dir", directory.toString());
+		
+		analysis = new AnalysisMap().getAnalysis(Integer.parseInt(parameter));
+		model = Model.createDetached();
+	}
+	
+	@Override
+	/**
+	 * This function is used to run the analysis once.
+	 *
+	 * @return The snapshot of the model holding the dataset.
+	 */
+	public Object run() {
+		analysis.doAnalysis(country, startYear, endYear, model);
+		return model.getState();
+	}
+	
+	private
+	/**
+	 * Reference to the analysis being measured.
+	 */
+	Strategy analysis;
+	
+	/**
+	 * Reference to the model the dataset is stored to.
+	 */
+	Model model;
+	
+	/**
+	 * Reference to the country the analysis is run for.
+	 */
+	static final String country = "USA";
+	
+	/**
+	 * Reference to the start year the analysis is run for.
+	 */
+	static final int startYear = 1990;
+	
+	/**
+	 * Reference to the end year the analysis is run for.
+	 */
+	static final int endYear = 2020;
+	
+	/**
+	 * Reference to the oldest year held in the local store.
+	 */
+	static final int firstYear = 1960;
+	
+	/**
+	 * Reference to the newest year held in the local store.
+	 */
+	static final int lastYear = 2020;
+	
+	/**
+	 * Reference to the World-Bank reference titles used by the analyses.
+	 */
+	static final String[] indicators = {"EN.ATM.CO2E.PC", "EG.USE.PCAP.KG.OE",
+			"EN.ATM.PM25.MC.M3", "AG.LND.FRST.ZS", "NY.GDP.PCAP.CD",
+			"SE.XPD.TOTL.GD.ZS", "SH.MED.BEDS.ZS", "SH.XPD.CHEX.PC.CD",
+			"SP.DYN.IMRT.IN", "SH.XPD.CHEX.GD.ZS"};
+}
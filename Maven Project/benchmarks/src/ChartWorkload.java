@@ -0,0 +1,115 @@
+import javax.swing.JPanel;
+
+import benchmarks.Workload;
+
+/**
+ * This class is used to measure the construction of a chart by a viewer, from
+ * a new viewer to the chart added to its panel, without a display.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see ViewerLine ViewerPie ViewerScatter ViewerTime
+ */
+public class ChartWorkload implements Workload {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 */
+	public ChartWorkload() {}
+	
+	@Override
+	/**
+	 * This function is used to store the data series of an analysis the
+	 * viewer can show to a model of its own.
+	 *
+	 * @param parameter The type of viewer, such as line or pie.
+	 */
+	public void setUp(String parameter) {
+		graphType = parameter;
+		
+		// The pie chart is only offered for the averages.
+		analysisType = graphType.equals("pie") ? pieAnalysisType
+				: defaultAnalysisType;
+		model = Model.createDetached();
+		model.storeData(SyntheticData.makeAnalysisData(analysisType, startYear,
+				endYear));
+		
+		parameters = UserParameters.getInstance();
+		parameters.setAnalysisType(analysisType);
+		parameters.setStartYear(startYear);
+		parameters.setEndYear(endYear);
+	}
+	
+	@Override
+	/**
+	 * This function is used to build the chart of a new viewer once.
+	 *
+	 * @return The panel holding the chart.
+	 */
+	public Object run() {
+		AbstractViewer viewer;
+		
+		switch (graphType) {
+		case "line":
+			viewer = new ViewerLine(model, analysisType);
+			break;
+		case "scatter":
+			viewer = new ViewerScatter(model, analysisType);
+			break;
+		case "time":
+			viewer = new ViewerTime(model, analysisType);
+			break;
+		case "pie":
+			viewer = new ViewerPie(model, analysisType);
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown viewer " + graphType);
+		}
+		
+		JPanel panel = new JPanel();
+		viewer.setGraphType(graphType);
+		viewer.update(parameters);
+		viewer.display(panel);
+		return panel;
+	}
+	
+	private
+	/**
+	 * Reference to the type of viewer being measured.
+	 */
+	String graphType;
+	
+	/**
+	 * Reference to the type of analysis shown by the viewer.
+	 */
+	int analysisType;
+	
+	/**
+	 * Reference to the model holding the data series shown.
+	 */
+	Model model;
+	
+	/**
+	 * Reference to the user parameters handed to the viewer.
+	 */
+	UserParameters parameters;
+	
+	/**
+	 * Reference to the analysis shown by every viewer but the pie chart.
+	 */
+	static final int defaultAnalysisType = 1;
+	
+	/**
+	 * Reference to the analysis shown by the pie chart.
+	 */
+	static final int pieAnalysisType = 4;
+	
+	/**
+	 * Reference to the start year of the data series.
+	 */
+	static final int startYear = 1990;
+	
+	/**
+	 * Reference to the end year of the data series.
+	 */
+	static final int endYear = 2020;
+}
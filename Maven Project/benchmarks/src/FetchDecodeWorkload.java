@@ -0,0 +1,92 @@
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import benchmarks.Workload;
+
+/**
+ * This class is used to measure the translation of a page of JSON data sent
+ * by the World-Bank. The page is laid out like a real v2 response, with every
+ * field of an entry present, so that the fields skipped cost what they do on
+ * the wire.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see WorldBankAdapter
+ */
+public class FetchDecodeWorkload implements Workload {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 */
+	public FetchDecodeWorkload() {}
+	
+	@Override
+	/**
+	 * This function is used to record a page holding the given number of
+	 * entries.
+	 *
+	 * @param parameter The number of entries on the page.
+	 */
+	public void setUp(String parameter) {
+		int entries = Integer.parseInt(parameter);
+		StringBuilder page = new StringBuilder(entries * bytesPerEntry);
+		
+		page.append("[{\"page\":1,\"pages\":1,\"per_page\":").append(entries)
+				.append(",\"total\":").append(entries)
+				.append(",\"sourceid\":\"2\",\"lastupdated\":\"2021-06-30\"},[");
+		
+		for (int i = 0; i < entries; i++) {
+			int year = newestYear - i;
+			
+			if (i > 0) { page.append(','); }
+			
+			page.append("{\"indicator\":{\"id\":\"EN.ATM.CO2E.PC\",\"value\":")
+					.append("\"CO2 emissions (metric tons per capita)\"},")
+					.append("\"country\":{\"id\":\"CA\",\"value\":\"Canada\"},")
+					.append("\"countryiso3code\":\"CAN\",\"date\":\"")
+					.append(year).append("\",\"value\":");
+			
+			if (year % 7 == 0) {
+				page.append("null");
+			} else {
+				page.append(15 + (year % 13) / 10.0);
+			}
+			
+			page.append(",\"unit\":\"\",\"obs_status\":\"\",\"decimal\":1}");
+		}
+		
+		page.append("]]");
+		payload = page.toString().getBytes(StandardCharsets.UTF_8);
+		adapter = new WorldBankAdapter();
+	}
+	
+	@Override
+	/**
+	 * This function is used to translate the recorded page once.
+	 *
+	 * @return The data series translated from the page.
+	 */
+	public Object run() {
+		return adapter.translateJsonData(new ByteArrayInputStream(payload));
+	}
+	
+	private
+	/**
+	 * Reference to the recorded page of JSON data.
+	 */
+	byte[] payload;
+	
+	/**
+	 * Reference to the adapter translating the page.
+	 */
+	WorldBankAdapter adapter;
+	
+	/**
+	 * Reference to the year of the first entry on the page.
+	 */
+	static final int newestYear = 2020;
+	
+	/**
+	 * Reference to the rough size of an entry on the page, in bytes.
+	 */
+	static final int bytesPerEntry = 260;
+}
@@ -0,0 +1,70 @@
+import benchmarks.Workload;
+
+/**
+ * This class is used to measure the making of the message shown by the
+ * report viewer.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see ViewerReport
+ */
+public class ReportWorkload implements Workload {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 */
+	public ReportWorkload() {}
+	
+	@Override
+	/**
+	 * This function is used to store the data series of an analysis type to
+	 * a model of its own and point a report viewer at it.
+	 *
+	 * @param parameter The type of analysis, from 1 to 8.
+	 */
+	public void setUp(String parameter) {
+		int analysisType = Integer.parseInt(parameter);
+		Model model = Model.createDetached();
+		model.storeData(SyntheticData.makeAnalysisData(analysisType, startYear,
+				endYear));
+		
+		UserParameters parameters = UserParameters.getInstance();
+		parameters.setAnalysisType(analysisType);
+		parameters.setStartYear(startYear);
+		parameters.setEndYear(endYear);
+		
+		viewer = new ViewerReport(model, analysisType);
+		viewer.update(parameters);
+		snapshot = model.getState();
+	}
+	
+	@Override
+	/**
+	 * This function is used to make the report message once.
+	 *
+	 * @return The report message.
+	 */
+	public Object run() {
+		return viewer.makeReportMessage(snapshot);
+	}
+	
+	private
+	/**
+	 * Reference to the viewer making the report.
+	 */
+	ViewerReport viewer;
+	
+	/**
+	 * Reference to the snapshot holding the data series reported.
+	 */
+	ModelSnapshot snapshot;
+	
+	/**
+	 * Reference to the start year of the data series.
+	 */
+	static final int startYear = 1960;
+	
+	/**
+	 * Reference to the end year of the data series.
+	 */
+	static final int endYear = 2020;
+}
@@ -0,0 +1,60 @@
+import java.util.ArrayList;
+
+/**
+ * This class is used to make data series shaped like those of the World-Bank
+ * for the benchmarks, so that they can run without a connection.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see SeriesBuffer
+ */
+public class SyntheticData {
+	/**
+	 * This function is used to make a data series from the newest year back
+	 * to the oldest one, as the World-Bank returns them, with a year missing
+	 * every now and then.
+	 *
+	 * @param startYear The oldest year of the data series.
+	 * @param endYear The newest year of the data series.
+	 * @param seed The number the values are derived from.
+	 * @return The data series.
+	 */
+	public static SeriesBuffer makeBuffer(int startYear, int endYear, int seed) {
+		SeriesBuffer buffer = new SeriesBuffer(endYear - startYear + 1);
+		
+		for (int year = endYear; year >= startYear; year--) {
+			if ((year + seed) % missingEvery == 0) {
+				buffer.addMissing(year);
+			} else {
+				buffer.add(year, 1 + (year % 97) * (seed + 1) / 10.0);
+			}
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * This function is used to make the data series of an analysis type.
+	 *
+	 * @param analysisType The type of analysis, from 1 to 8.
+	 * @param startYear The oldest year of the data series.
+	 * @param endYear The newest year of the data series.
+	 * @return One data series for each name of the analysis type.
+	 */
+	public static ArrayList<Series> makeAnalysisData(int analysisType,
+			int startYear, int endYear) {
+		ArrayList<Series> data = new ArrayList<Series>();
+		
+		for (int i = 0; i < AnalysisMap.getSeriesNames(analysisType).length; i++) {
+			data.add(makeBuffer(startYear, endYear, i).toSeries());
+		}
+		
+		return data;
+	}
+	
+	private
+	/**
+	 * Reference to how often a year is left without a value.
+	 */
+	static final int missingEvery = 7;
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class is used to measure each analysis against a local store of data,
+ * from the request for its data to the dataset stored to the model.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see AnalysisWorkload
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalysisBenchmark {
+	/**
+	 * This function is used to prepare the work before it is measured.
+	 *
+	 * @throws Exception If the work can't be prepared.
+	 */
+	@Setup
+	public void setUp() throws Exception {
+		workload = Workload.load("AnalysisWorkload", analysisType);
+	}
+	
+	/**
+	 * This function is used to do the work once.
+	 *
+	 * @return The result of the work.
+	 * @throws Exception If the work fails.
+	 */
+	@Benchmark
+	public Object doAnalysis() throws Exception {
+		return workload.run();
+	}
+	
+	/**
+	 * The type of analysis run.
+	 */
+	@Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+	public String analysisType;
+	
+	private
+	/**
+	 * Reference to the work being measured.
+	 */
+	Workload workload;
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This class is used as the entry point of the benchmarks. It takes the same
+ * options as the JMH runner, but always profiles the allocations so that the
+ * garbage made per operation is reported next to the throughput, and writes
+ * the results as JSON for comparing runs unless told otherwise.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see Workload
+ */
+public class BenchmarkRunner {
+	/**
+	 * Main function for running the benchmarks.
+	 *
+	 * @param args Command line arguments passed to the JMH runner.
+	 * @throws RunnerException If the benchmarks fail to run.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		CommandLineOptions commandLine;
+		
+		try {
+			commandLine = new CommandLineOptions(args);
+		} catch (CommandLineOptionException err) {
+			System.err.println(err.getMessage());
+			System.exit(2);
+			return;
+		}
+		
+		ChainedOptionsBuilder options = new OptionsBuilder()
+				.parent(commandLine)
+				.addProfiler(GCProfiler.class);
+		
+		if (!commandLine.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+		
+		if (!commandLine.getResult().hasValue()) {
+			options.result(defaultResultFile);
+		}
+		
+		new Runner(options.build()).run();
+	}
+	
+	private
+	/**
+	 * Reference to the file the results are written to by default.
+	 */
+	static final String defaultResultFile = "jmh-result.json";
+}
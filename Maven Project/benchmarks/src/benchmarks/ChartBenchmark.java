@@ -0,0 +1,64 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class is used to measure the construction of the chart of each viewer
+ * type, without a display.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see ChartWorkload
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ChartBenchmark {
+	/**
+	 * This function is used to prepare the work before it is measured.
+	 *
+	 * @throws Exception If the work can't be prepared.
+	 */
+	@Setup
+	public void setUp() throws Exception {
+		workload = Workload.load("ChartWorkload", graphType);
+	}
+	
+	/**
+	 * This function is used to do the work once.
+	 *
+	 * @return The result of the work.
+	 * @throws Exception If the work fails.
+	 */
+	@Benchmark
+	public Object buildChart() throws Exception {
+		return workload.run();
+	}
+	
+	/**
+	 * The type of viewer building the chart.
+	 */
+	@Param({"line", "scatter", "time", "pie"})
+	public String graphType;
+	
+	private
+	/**
+	 * Reference to the work being measured.
+	 */
+	Workload workload;
+}
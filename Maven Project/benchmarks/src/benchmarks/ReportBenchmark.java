@@ -0,0 +1,64 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class is used to measure the making of the report message for each
+ * analysis type.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see ReportWorkload
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportBenchmark {
+	/**
+	 * This function is used to prepare the work before it is measured.
+	 *
+	 * @throws Exception If the work can't be prepared.
+	 */
+	@Setup
+	public void setUp() throws Exception {
+		workload = Workload.load("ReportWorkload", analysisType);
+	}
+	
+	/**
+	 * This function is used to do the work once.
+	 *
+	 * @return The result of the work.
+	 * @throws Exception If the work fails.
+	 */
+	@Benchmark
+	public Object makeReportMessage() throws Exception {
+		return workload.run();
+	}
+	
+	/**
+	 * The type of analysis reported.
+	 */
+	@Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+	public String analysisType;
+	
+	private
+	/**
+	 * Reference to the work being measured.
+	 */
+	Workload workload;
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+/**
+ * This interface is used to define a piece of work measured by a benchmark.
+ * The classes of the application sit in the default package, which JMH can't
+ * generate benchmarks for and which no other package can refer to, so each
+ * piece of work is written there against this interface and loaded by name.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see BenchmarkRunner
+ */
+public interface Workload {
+	/**
+	 * This function is used to prepare everything the work needs before it
+	 * is measured.
+	 *
+	 * @param parameter The benchmark parameter chosen for this run.
+	 * @throws Exception If the work can't be prepared.
+	 */
+	public void setUp(String parameter) throws Exception;
+	
+	/**
+	 * This function is used to do the work once.
+	 *
+	 * @return The result of the work, to be consumed by the benchmark.
+	 * @throws Exception If the work fails.
+	 */
+	public Object run() throws Exception;
+	
+	/**
+	 * This function is used to create and prepare a piece of work by the name
+	 * of its class in the default package.
+	 *
+	 * @param className The name of the class doing the work.
+	 * @param parameter The benchmark parameter chosen for this run.
+	 * @return The prepared work.
+	 * @throws Exception If the work can't be created or prepared.
+	 */
+	public static Workload load(String className, String parameter)
+			throws Exception {
+		Workload workload = (Workload) Class.forName(className)
+				.getDeclaredConstructor().newInstance();
+		workload.setUp(parameter);
+		return workload;
+	}
+}
@@ -29,7 +29,7 @@ public abstract class AbstractDatabase {
 	 * @param endYear The user chosen end year for analysis.
 	 * @return 0 if the parameters are valid, 1 if valid country but invalid
 	 * year, 2 if invalid country, 3 if bad or missing data, 4 if the time
-	 * range is invalid.
+	 * range is invalid, 5 if the time range is known to hold no data.
 	 */
 	public abstract int isValidSetup(int analysisType, String country, 
 			int startYear, int endYear);
@@ -13,12 +13,7 @@ public class AnalysisA implements Strategy {
 	/**
 	 * Constructor function for initializing an instance of this object.
 	 */
-	public AnalysisA() {
-		processedCo2Data = new ArrayList<DataContainer>();
-		processedEnergyData = new ArrayList<DataContainer>();
-		processedPM25Data = new ArrayList<DataContainer>();
-		processedDataList = new ArrayList <ArrayList<DataContainer>>();
-	}
+	public AnalysisA() {}
 		
 	@Override
 	/**
@@ -34,33 +29,42 @@ public class AnalysisA implements Strategy {
 	public boolean doAnalysis(String country, int givenStartyear,
 			int givenEndYear, Model modelRef) {
 		// Create a concatenated array of strings for the analysis types.
-		String[] analysisTypes = {co2Table, energyUseTable, pm25Table};
+		String[] analysisTypes = getIndicators();
 		
-		// Connect to the World-Bank and get the desired data.
+		// Connect to the World-Bank and get the desired data, showing each
+		// data series as soon as it arrives.
 		WorldBankInterface worldBank = WorldBankInterface.getInstance();
+		int run = modelRef.beginData(analysisTypes.length);
 		var concatenatedDataList = worldBank.getData(country, givenStartyear,
-				givenEndYear, analysisTypes);
+				givenEndYear, analysisTypes, (index, series) ->
+				modelRef.storePartialData(run, index, eliminateZeroes(series)));
 	
 		// Ensure empty lists were not received.
 		if (isDataEmpty(concatenatedDataList)) { return false; }
 		
 		// Sort out nonzero values from each data list.
-		eliminateZeroes(concatenatedDataList);
+		var processedData = eliminateZeroes(concatenatedDataList);
 			
 		// Check to see there is no empty processed data lists.
-		if (processedCo2Data.size() == 0 || processedEnergyData.size() == 0
-				|| processedPM25Data.size() == 0) { return false; }
+		if (isDataEmpty(processedData)) { return false; }
 		
 		// No computations needed here so just save the new data.
-		processedDataList.clear();
-		processedDataList.add(processedCo2Data);
-		processedDataList.add(processedEnergyData);
-		processedDataList.add(processedPM25Data);
-		modelRef.storeData(processedDataList);
+		modelRef.storeData(processedData);
 				
 		return true;
 	}
 	
+	@Override
+	/**
+	 * This function is overridden to give the World-Bank reference titles of
+	 * the data used by this type of analysis.
+	 * 
+	 * @return The reference titles, in the order the data is requested.
+	 */
+	public String[] getIndicators() {
+		return new String[] {co2Table, energyUseTable, pm25Table};
+	}
+	
 	/**
 	 * This function is used to check if any data series returned has a size
 	 * of 0.
@@ -68,7 +72,7 @@ public class AnalysisA implements Strategy {
 	 * @param data The concatenated array of data values from the server.
 	 * @return True if the data list is empty, false otherwise.
 	 */
-	private boolean isDataEmpty(ArrayList<ArrayList<DataContainer>> data) {
+	private boolean isDataEmpty(ArrayList<Series> data) {
 		int series = data.size();
 		
 		// Loop through all available series and check sizes.
@@ -84,32 +88,36 @@ public class AnalysisA implements Strategy {
 	 *  data series before plotting them to only showcase non-zero numerics.
 	 * 
 	 * @param data The concatenated array of data values from the server.
+	 * @return A new list of the data series holding only the non-zero values.
 	 */
-	private void eliminateZeroes(ArrayList<ArrayList<DataContainer>> data) {
-		int years = data.get(0).size();
+	private ArrayList<Series> eliminateZeroes(ArrayList<Series> data) {
+		ArrayList<Series> processedData = new ArrayList<Series>(data.size());
+		
+		for (int i = 0; i < data.size(); i++) {
+			processedData.add(eliminateZeroes(data.get(i)));
+		}
+		
+		return processedData;
+	}
 		
-		// Clear out any previously held data.
-		processedCo2Data.clear();
-		processedEnergyData.clear();
-		processedPM25Data.clear();
+	/**
+	 * This function is used for eliminating all zero values from a single
+	 * data series.
+	 * 
+	 * @param data The data series from the server.
+	 * @return A new data series holding only the non-zero values.
+	 */
+	private Series eliminateZeroes(Series data) {
+		SeriesBuffer dataBuffer = new SeriesBuffer(data.size());
 		
 		// Loop through all the yearly attributes.
-		for (int i = 0; i < years; i++) {
-			// Check CO2 data.
-			if (data.get(0).get(i).getValue() != 0) {
-				processedCo2Data.add(data.get(0).get(i));
-			}
-			
-			// Check energy data.
-			if (data.get(1).get(i).getValue() != 0) {
-				processedEnergyData.add(data.get(1).get(i));
-			}
-			
-			// Check PM25 data.
-			if (data.get(2).get(i).getValue() != 0) {
-				processedPM25Data.add(data.get(2).get(i));
+		for (int i = 0; i < data.size(); i++) {
+			if (data.getValue(i) != 0) {
+				dataBuffer.add(data.getYear(i), data.getValue(i));
 			}
 		}
+		
+		return dataBuffer.toSeries();
 	}
 	
 	private
@@ -127,24 +135,4 @@ public class AnalysisA implements Strategy {
 	 * A reference to the PM2.5 Air Pollution data table in the World-Bank.
 	 */
 	static final String pm25Table = "EN.ATM.PM25.MC.M3";
-	
-	/**
-	 * A reference to the processed CO2 Emissions data table.
-	 */
-	ArrayList<DataContainer> processedCo2Data;
-	
-	/**
-	 * A reference to the processed Energy Usage data table.
-	 */
-	ArrayList<DataContainer> processedEnergyData;
-	
-	/**
-	 * A reference to the processed PM2.5 Air Pollution data table.
-	 */
-	ArrayList<DataContainer> processedPM25Data;
-	
-	/**
-	 * A reference to the compiled data to be used by the application.
-	 */
-	ArrayList <ArrayList<DataContainer>> processedDataList;
 }
@@ -13,11 +13,7 @@ public class AnalysisB implements Strategy {
 	/**
 	 * Constructor function for initializing an instance of this object.
 	 */
-	public AnalysisB() {
-		processedPM25Data = new ArrayList<DataContainer>();
-		processedForestAreaData = new ArrayList<DataContainer>();
-		processedDataList = new ArrayList <ArrayList<DataContainer>>();
-	}
+	public AnalysisB() {}
 	
 	@Override
 	/**
@@ -33,32 +29,42 @@ public class AnalysisB implements Strategy {
 	public boolean doAnalysis(String country, int givenStartyear,
 			int givenEndYear, Model modelRef) {
 		// Create a concatenated array of strings for the analysis types.
-		String[] analysisTypes = {pm25Table, forestAreaTable};
+		String[] analysisTypes = getIndicators();
 		
-		// Connect to the World-Bank and get the desired data.
+		// Connect to the World-Bank and get the desired data, showing each
+		// data series as soon as it arrives.
 		WorldBankInterface worldBank = WorldBankInterface.getInstance();
+		int run = modelRef.beginData(analysisTypes.length);
 		var concatenatedDataList = worldBank.getData(country, givenStartyear,
-				givenEndYear, analysisTypes);
+				givenEndYear, analysisTypes, (index, series) ->
+				modelRef.storePartialData(run, index, eliminateZeroes(series)));
 	
 		// Ensure empty lists were not received.
 		if (isDataEmpty(concatenatedDataList)) { return false; }
 		
 		// Sort out nonzero values from each data list.
-		eliminateZeroes(concatenatedDataList);
+		var processedData = eliminateZeroes(concatenatedDataList);
 		
 		// Check to see there is no empty processed data lists.
-		if (processedPM25Data.size() == 0 ||
-				processedForestAreaData.size() == 0) { return false; }
+		if (isDataEmpty(processedData)) { return false; }
 		
 		// No computations needed here so just save the new data.
-		processedDataList.clear();
-		processedDataList.add(processedPM25Data);
-		processedDataList.add(processedForestAreaData);
-		modelRef.storeData(processedDataList);
+		modelRef.storeData(processedData);
 		
 		return true;
 	}
 	
+	@Override
+	/**
+	 * This function is overridden to give the World-Bank reference titles of
+	 * the data used by this type of analysis.
+	 * 
+	 * @return The reference titles, in the order the data is requested.
+	 */
+	public String[] getIndicators() {
+		return new String[] {pm25Table, forestAreaTable};
+	}
+	
 	/**
 	 * This function is used to check if any data series returned has a size
 	 * of 0.
@@ -66,7 +72,7 @@ public class AnalysisB implements Strategy {
 	 * @param data The concatenated array of data values from the server.
 	 * @return True if the data list is empty, false otherwise.
 	 */
-	private boolean isDataEmpty(ArrayList<ArrayList<DataContainer>> data) {
+	private boolean isDataEmpty(ArrayList<Series> data) {
 		int series = data.size();
 		
 		// Loop through all available series and check sizes.
@@ -82,26 +88,36 @@ public class AnalysisB implements Strategy {
 	 *  data series before plotting them to only showcase non-zero numerics.
 	 * 
 	 * @param data The concatenated array of data values from the server.
+	 * @return A new list of the data series holding only the non-zero values.
 	 */
-	private void eliminateZeroes(ArrayList<ArrayList<DataContainer>> data) {
-		int years = data.get(0).size();
+	private ArrayList<Series> eliminateZeroes(ArrayList<Series> data) {
+		ArrayList<Series> processedData = new ArrayList<Series>(data.size());
 		
-		// Clear out any previous data.
-		processedPM25Data.clear();
-		processedForestAreaData.clear();
+		for (int i = 0; i < data.size(); i++) {
+			processedData.add(eliminateZeroes(data.get(i)));
+		}
+		
+		return processedData;
+	}
+		
+	/**
+	 * This function is used for eliminating all zero values from a single
+	 * data series.
+	 * 
+	 * @param data The data series from the server.
+	 * @return A new data series holding only the non-zero values.
+	 */
+	private Series eliminateZeroes(Series data) {
+		SeriesBuffer dataBuffer = new SeriesBuffer(data.size());
 		
 		// Loop through all the yearly attributes.
-		for (int i = 0; i < years; i++) {		
-			// Check PM25 data.
-			if (data.get(0).get(i).getValue() != 0) {
-				processedPM25Data.add(data.get(0).get(i));
-			}
-			
-			// Check forest area data.
-			if (data.get(1).get(i).getValue() != 0) {
-				processedForestAreaData.add(data.get(1).get(i));
+		for (int i = 0; i < data.size(); i++) {
+			if (data.getValue(i) != 0) {
+				dataBuffer.add(data.getYear(i), data.getValue(i));
 			}
 		}
+		
+		return dataBuffer.toSeries();
 	}
 	
 	private
@@ -114,19 +130,4 @@ public class AnalysisB implements Strategy {
 	 * A reference to the Forest Area data table in the World-Bank.
 	 */
 	static final String forestAreaTable = "AG.LND.FRST.ZS";
-	
-	/**
-	 * A reference to the processed PM2.5 Air Pollution data table.
-	 */
-	ArrayList<DataContainer> processedPM25Data;
-	
-	/**
-	 * A reference to the processed Forest Area data table.
-	 */
-	ArrayList<DataContainer> processedForestAreaData;
-	
-	/**
-	 * A reference to the compiled data to be used by the application.
-	 */
-	ArrayList <ArrayList<DataContainer>> processedDataList;
 }
@@ -1,4 +1,5 @@
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class is used to define an implementation of the strategy for computing
@@ -13,10 +14,7 @@ public class AnalysisC implements Strategy {
 	/**
 	 * Constructor function for initializing an instance of this object.
 	 */
-	public AnalysisC() {		
-		ratioCo2GdpData = new ArrayList<DataContainer>();
-		processedDataList = new ArrayList <ArrayList<DataContainer>>();
-	}
+	public AnalysisC() {}
 		
 	@Override
 	/**
@@ -32,7 +30,7 @@ public class AnalysisC implements Strategy {
 	public boolean doAnalysis(String country, int givenStartyear,
 			int givenEndYear, Model modelRef) {
 		// Create a concatenated array of strings for the analysis types.
-		String[] analysisTypes = {co2Table, gdpTable};
+		String[] analysisTypes = getIndicators();
 		
 		// Connect to the World-Bank and get the desired data.
 		WorldBankInterface worldBank = WorldBankInterface.getInstance();
@@ -43,20 +41,29 @@ public class AnalysisC implements Strategy {
 		if (isDataEmpty(concatenatedDataList)) { return false; }
 		
 		// Compute ratios for nonzero values from each data list.
-		computeRatios(concatenatedDataList);
+		Series ratioCo2GdpData = computeRatios(concatenatedDataList);
 			
 		// Check to see there is no empty processed data lists.
 		if (ratioCo2GdpData.size() == 0) { return false; }
 		
 			
 		// All computations done so just save the new data.
-		processedDataList.clear();
-		processedDataList.add(ratioCo2GdpData);
-		modelRef.storeData(processedDataList);
+		modelRef.storeData(List.of(ratioCo2GdpData));
 		
 		return true;
 	}
 	
+	@Override
+	/**
+	 * This function is overridden to give the World-Bank reference titles of
+	 * the data used by this type of analysis.
+	 * 
+	 * @return The reference titles, in the order the data is requested.
+	 */
+	public String[] getIndicators() {
+		return new String[] {co2Table, gdpTable};
+	}
+	
 	/**
 	 * This function is used to check if any data series returned has a size
 	 * of 0.
@@ -64,7 +71,7 @@ public class AnalysisC implements Strategy {
 	 * @param data The concatenated array of data values from the server.
 	 * @return True if the data list is empty, false otherwise.
 	 */
-	private boolean isDataEmpty(ArrayList<ArrayList<DataContainer>> data) {
+	private boolean isDataEmpty(ArrayList<Series> data) {
 		int series = data.size();
 		
 		// Loop through all available series and check sizes.
@@ -80,26 +87,36 @@ public class AnalysisC implements Strategy {
 	 * acquired form the world bank.
 	 * 
 	 * @param data The concatenated array of data values from the server.
+	 * @return A new data series holding the ratios.
 	 */
-	private void computeRatios(ArrayList<ArrayList<DataContainer>> data) {
-		int years = data.get(0).size();
+	private Series computeRatios(ArrayList<Series> data) {
+		Series first = data.get(0);
+		Series second = data.get(1);
+		int years = first.size();
 		
-		// Clear out previous data.
-		ratioCo2GdpData.clear();
+		// Collect the ratios into a new series.
+		SeriesBuffer ratioCo2GdpBuffer = new SeriesBuffer(years);
 		
-		// Loop through all the yearly attributes.
+		// Loop through all the yearly attributes, pairing the values by year
+		// since the two series may not span the same years.
 		for (int i = 0; i < years; i++) {
-			var year = data.get(0).get(i).getYear();
-			var co2 = data.get(0).get(i).getValue();
-			var gdp = data.get(1).get(i).getValue();
+			var year = first.getYear(i);
+			var index = second.indexOfYear(year);
+			
+			if (index < 0) { continue; }
+			
+			var co2 = first.getValue(i);
+			var gdp = second.getValue(index);
 			
 			// Skip zero value elements.
 			if (co2 == 0 || gdp == 0) { continue; }
 			
 			// Compute ratio and append to the data series.
 			var ratio = co2 / gdp;
-			ratioCo2GdpData.add(new DataContainer(year,ratio));
+			ratioCo2GdpBuffer.add(year,ratio);
 		}
+		
+		return ratioCo2GdpBuffer.toSeries();
 	}
 	
 	private
@@ -112,14 +129,4 @@ public class AnalysisC implements Strategy {
 	 * A reference to the GDP Per Capita data table in the World-Bank.
 	 */
 	static final String gdpTable = "NY.GDP.PCAP.CD";
-	
-	/**
-	 * A reference to the processed ratio data.
-	 */
-	ArrayList<DataContainer> ratioCo2GdpData;
-	
-	/**
-	 * A reference to the compiled data to be used by the application.
-	 */
-	ArrayList <ArrayList<DataContainer>> processedDataList;
 }
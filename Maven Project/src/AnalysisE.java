@@ -13,10 +13,7 @@ public class AnalysisE implements Strategy {
 	/**
 	 * Constructor function for initializing an instance of this object.
 	 */
-	public AnalysisE() {
-		processedGovExpData = new ArrayList<DataContainer>();
-		processedDataList = new ArrayList <ArrayList<DataContainer>>();
-	}
+	public AnalysisE() {}
 		
 	@Override
 	/**
@@ -32,30 +29,42 @@ public class AnalysisE implements Strategy {
 	public boolean doAnalysis(String country, int givenStartyear,
 			int givenEndYear, Model modelRef) {
 		// Create a concatenated array of strings for the analysis types.
-		String[] analysisTypes = {avgGovExpTable};
+		String[] analysisTypes = getIndicators();
 		
-		// Connect to the World-Bank and get the desired data.
+		// Connect to the World-Bank and get the desired data, showing each
+		// data series as soon as it arrives.
 		WorldBankInterface worldBank = WorldBankInterface.getInstance();
+		int run = modelRef.beginData(analysisTypes.length);
 		var concatenatedDataList = worldBank.getData(country, givenStartyear,
-				givenEndYear, analysisTypes);
+				givenEndYear, analysisTypes, (index, series) ->
+				modelRef.storePartialData(run, index, eliminateZeroes(series)));
 	
 		// Ensure empty lists were not received.
 		if (isDataEmpty(concatenatedDataList)) { return false; }
 		
 		// Sort out nonzero values from each data list.
-		eliminateZeroes(concatenatedDataList);
+		var processedData = eliminateZeroes(concatenatedDataList);
 			
 		// Check to see there is no empty processed data lists.
-		if (processedGovExpData.size() == 0) { return false; }
+		if (isDataEmpty(processedData)) { return false; }
 		
 		// No computations needed here so just save the new data.
-		processedDataList.clear();
-		processedDataList.add(processedGovExpData);
-		modelRef.storeData(processedDataList);
+		modelRef.storeData(processedData);
 		
 		return true;
 	}
 	
+	@Override
+	/**
+	 * This function is overridden to give the World-Bank reference titles of
+	 * the data used by this type of analysis.
+	 * 
+	 * @return The reference titles, in the order the data is requested.
+	 */
+	public String[] getIndicators() {
+		return new String[] {avgGovExpTable};
+	}
+	
 	/**
 	 * This function is used to check if any data series returned has a size
 	 * of 0.
@@ -63,7 +72,7 @@ public class AnalysisE implements Strategy {
 	 * @param data The concatenated array of data values from the server.
 	 * @return True if the data list is empty, false otherwise.
 	 */
-	private boolean isDataEmpty(ArrayList<ArrayList<DataContainer>> data) {
+	private boolean isDataEmpty(ArrayList<Series> data) {
 		int series = data.size();
 		
 		// Loop through all available series and check sizes.
@@ -79,20 +88,36 @@ public class AnalysisE implements Strategy {
 	 *  data series before plotting them to only showcase non-zero numerics.
 	 * 
 	 * @param data The concatenated array of data values from the server.
+	 * @return A new list of the data series holding only the non-zero values.
 	 */
-	private void eliminateZeroes(ArrayList<ArrayList<DataContainer>> data) {
-		int years = data.get(0).size();
+	private ArrayList<Series> eliminateZeroes(ArrayList<Series> data) {
+		ArrayList<Series> processedData = new ArrayList<Series>(data.size());
+		
+		for (int i = 0; i < data.size(); i++) {
+			processedData.add(eliminateZeroes(data.get(i)));
+		}
+		
+		return processedData;
+	}
 		
-		// Clear out previous data.
-		processedGovExpData.clear();
+	/**
+	 * This function is used for eliminating all zero values from a single
+	 * data series.
+	 * 
+	 * @param data The data series from the server.
+	 * @return A new data series holding only the non-zero values.
+	 */
+	private Series eliminateZeroes(Series data) {
+		SeriesBuffer dataBuffer = new SeriesBuffer(data.size());
 		
 		// Loop through all the yearly attributes.
-		for (int i = 0; i < years; i++) {
-			// Check forest area data.
-			if (data.get(0).get(i).getValue() != 0) {
-				processedGovExpData.add(data.get(0).get(i));
+		for (int i = 0; i < data.size(); i++) {
+			if (data.getValue(i) != 0) {
+				dataBuffer.add(data.getYear(i), data.getValue(i));
 			}
 		}
+		
+		return dataBuffer.toSeries();
 	}
 	
 	private
@@ -101,16 +126,5 @@ public class AnalysisE implements Strategy {
 	 * World-Bank.
 	 */
 	static final String avgGovExpTable = "SE.XPD.TOTL.GD.ZS";
-	
-	/**
-	 * A reference to the processed Government Expenditure on Education data 
-	 * table.
-	 */
-	ArrayList<DataContainer> processedGovExpData;
-		
-	/**
-	 * A reference to the compiled data to be used by the application.
-	 */
-	ArrayList <ArrayList<DataContainer>> processedDataList;
-}
-	
\ No newline at end of file
+	}
+		
\ No newline at end of file
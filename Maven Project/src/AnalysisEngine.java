@@ -0,0 +1,110 @@
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class is used to run an analysis for many countries at once. The
+ * countries are split up on a fork-join pool and each one is analysed with a
+ * model of its own, so the results are handed back keyed by country instead
+ * of being stored to the model shown by the UI. The data is fetched through
+ * the World-Bank interface, which bounds the number of requests made at the
+ * same time and shares the ones made for the same indicator. The data of all
+ * the countries is fetched ahead in batches before any of them is analysed.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see AnalysisTask BatchResult WorldBankInterface
+ */
+public class AnalysisEngine {
+	/**
+	 * Constructor function for initializing an instance of this object with
+	 * as many workers as there are cores.
+	 */
+	public AnalysisEngine() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param parallelism The number of countries analysed at the same time.
+	 */
+	public AnalysisEngine(int parallelism) {
+		pool = new ForkJoinPool(Math.max(1, parallelism));
+		analysisMap = new AnalysisMap();
+	}
+	
+	/**
+	 * This function is used to run an analysis for every country given and
+	 * wait for all of them to finish.
+	 *
+	 * @param analysisType The type of analysis to run, from 1 to 8.
+	 * @param countries The ISO3 codes of the countries to analyse.
+	 * @param startYear The start year of the analysis.
+	 * @param endYear The end year of the analysis.
+	 * @return The result for each country, in the order they were given.
+	 */
+	public Map<String, BatchResult> analyse(int analysisType,
+			List<String> countries, int startYear, int endYear) {
+		if (analysisMap.getAnalysis(analysisType) == null) {
+			throw new IllegalArgumentException("Unknown analysis "
+					+ analysisType);
+		}
+		
+		if (countries.isEmpty()) { return new LinkedHashMap<String, BatchResult>(); }
+		
+		// Ask for many countries per request rather than one at a time.
+		WorldBankInterface.getInstance().prefetch(countries, startYear, endYear,
+				analysisMap.getAnalysis(analysisType).getIndicators());
+		
+		return pool.invoke(new AnalysisTask(this, analysisType,
+				List.copyOf(countries), startYear, endYear));
+	}
+	
+	/**
+	 * This function is used to run an analysis for a single country with a
+	 * model of its own.
+	 *
+	 * @param analysisType The type of analysis to run, from 1 to 8.
+	 * @param country The ISO3 code of the country to analyse.
+	 * @param startYear The start year of the analysis.
+	 * @param endYear The end year of the analysis.
+	 * @return The result of the analysis.
+	 */
+	public BatchResult analyse(int analysisType, String country,
+			int startYear, int endYear) {
+		Model model = Model.createDetached();
+		boolean success;
+		
+		try {
+			success = analysisMap.getAnalysis(analysisType).doAnalysis(country,
+					startYear, endYear, model);
+		} catch (RuntimeException err) {
+			err.printStackTrace();
+			success = false;
+		}
+		
+		return new BatchResult(country, analysisType, startYear, endYear,
+				success, success ? model.getState().getSeries() : List.of());
+	}
+	
+	/**
+	 * This function is used to stop the workers of the engine once it is no
+	 * longer needed.
+	 */
+	public void shutdown() {
+		pool.shutdown();
+	}
+	
+	private
+	/**
+	 * Reference to the pool of workers the countries are analysed on.
+	 */
+	ForkJoinPool pool;
+	
+	/**
+	 * Reference to the analysis map for deciding the analysis type.
+	 */
+	AnalysisMap analysisMap;
+}
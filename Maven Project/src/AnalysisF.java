@@ -13,11 +13,7 @@ public class AnalysisF implements Strategy {
 	/**
 	 * Constructor function for initializing an instance of this object.
 	 */
-	public AnalysisF() {
-		processedHospitalBedData = new ArrayList<DataContainer>();
-		processedHealthExpPer1kData = new ArrayList<DataContainer>();
-		processedDataList = new ArrayList <ArrayList<DataContainer>>();
-	}
+	public AnalysisF() {}
 	
 	@Override
 	/**
@@ -33,32 +29,43 @@ public class AnalysisF implements Strategy {
 	public boolean doAnalysis(String country, int givenStartyear,
 			int givenEndYear, Model modelRef) {
 		// Create a concatenated array of strings for the analysis types.
-		String[] analysisTypes = {hospitalBedTable, currHealthExpTable};
+		String[] analysisTypes = getIndicators();
 		
-		// Connect to the World-Bank and get the desired data.
+		// Connect to the World-Bank and get the desired data, showing each
+		// data series as soon as it arrives.
 		WorldBankInterface worldBank = WorldBankInterface.getInstance();
+		int run = modelRef.beginData(analysisTypes.length);
 		var concatenatedDataList = worldBank.getData(country, givenStartyear,
-				givenEndYear, analysisTypes);
+				givenEndYear, analysisTypes, (index, series) ->
+				modelRef.storePartialData(run, index, eliminateZeroes(series,
+						index == 0 ? 1 : healthExpDivisor)));
 	
 		// Ensure empty lists were not received.
 		if (isDataEmpty(concatenatedDataList)) { return false; }
 		
 		// Sort out nonzero values from each data list.
-		eliminateZeroes(concatenatedDataList);
+		var processedData = eliminateZeroes(concatenatedDataList);
 		
 		// Check to see there is no empty processed data lists.
-		if (processedHospitalBedData.size() == 0 ||
-				processedHealthExpPer1kData.size() == 0) { return false; }
+		if (isDataEmpty(processedData)) { return false; }
 		
 		// No computations needed here so just save the new data.
-		processedDataList.clear();
-		processedDataList.add(processedHospitalBedData);
-		processedDataList.add(processedHealthExpPer1kData);
-		modelRef.storeData(processedDataList);
+		modelRef.storeData(processedData);
 		
 		return true;
 	}
 	
+	@Override
+	/**
+	 * This function is overridden to give the World-Bank reference titles of
+	 * the data used by this type of analysis.
+	 * 
+	 * @return The reference titles, in the order the data is requested.
+	 */
+	public String[] getIndicators() {
+		return new String[] {hospitalBedTable, currHealthExpTable};
+	}
+	
 	/**
 	 * This function is used to check if any data series returned has a size
 	 * of 0.
@@ -66,7 +73,7 @@ public class AnalysisF implements Strategy {
 	 * @param data The concatenated array of data values from the server.
 	 * @return True if the data list is empty, false otherwise.
 	 */
-	private boolean isDataEmpty(ArrayList<ArrayList<DataContainer>> data) {
+	private boolean isDataEmpty(ArrayList<Series> data) {
 		int series = data.size();
 		
 		// Loop through all available series and check sizes.
@@ -82,30 +89,37 @@ public class AnalysisF implements Strategy {
 	 *  data series before plotting them to only showcase non-zero numerics.
 	 * 
 	 * @param data The concatenated array of data values from the server.
+	 * @return A new list of the data series holding only the non-zero values.
 	 */
-	private void eliminateZeroes(ArrayList<ArrayList<DataContainer>> data) {
-		int years = data.get(0).size();
+	private ArrayList<Series> eliminateZeroes(ArrayList<Series> data) {
+		ArrayList<Series> processedData = new ArrayList<Series>(data.size());
+		processedData.add(eliminateZeroes(data.get(0), 1));
+		
+		// Divide the value by 1000 for analysis.
+		processedData.add(eliminateZeroes(data.get(1), healthExpDivisor));
 		
-		// Clear out previous data.
-		processedHospitalBedData.clear();
-		processedHealthExpPer1kData.clear();
+		return processedData;
+	}
+	
+	/**
+	 * This function is used for eliminating all zero values from a single
+	 * data series, scaling down the values that are kept.
+	 * 
+	 * @param data The data series from the server.
+	 * @param divisor The number to divide each kept value by.
+	 * @return A new data series holding only the non-zero values.
+	 */
+	private Series eliminateZeroes(Series data, double divisor) {
+		SeriesBuffer dataBuffer = new SeriesBuffer(data.size());
 		
 		// Loop through all the yearly attributes.
-		for (int i = 0; i < years; i++) {		
-			// Check hospital bed data.
-			if (data.get(0).get(i).getValue() != 0) {
-				processedHospitalBedData.add(data.get(0).get(i));
-			}
-			
-			// Check health expenditure data.
-			if (data.get(1).get(i).getValue() != 0) {
-				var year = data.get(1).get(i).getYear();
-				var val = data.get(1).get(i).getValue();
-				
-				// Divide the value by 1000 for analysis.
-				processedHealthExpPer1kData.add(new DataContainer(year,val / 1000));
+		for (int i = 0; i < data.size(); i++) {
+			if (data.getValue(i) != 0) {
+				dataBuffer.add(data.getYear(i), data.getValue(i) / divisor);
 			}
 		}
+		
+		return dataBuffer.toSeries();
 	}
 	
 	private 
@@ -121,17 +135,8 @@ public class AnalysisF implements Strategy {
 	static final String currHealthExpTable = "SH.XPD.CHEX.PC.CD";
 	
 	/**
-	 * A reference to the processed Hospital Beds data table.
-	 */
-	ArrayList<DataContainer> processedHospitalBedData;
-	
-	/**
-	 * A reference to the processed Current Health Expenditure data table.
-	 */
-	ArrayList<DataContainer> processedHealthExpPer1kData;
-	
-	/**
-	 * A reference to the compiled data to be used by the application.
+	 * A reference to the number the health expenditure is divided by to give
+	 * the expenditure per 1000.
 	 */
-	ArrayList <ArrayList<DataContainer>> processedDataList;
+	static final double healthExpDivisor = 1000;
 }
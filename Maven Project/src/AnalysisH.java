@@ -1,4 +1,5 @@
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This class is used to define an implementation of the strategy for computing
@@ -13,10 +14,7 @@ public class AnalysisH implements Strategy {
 	/**
 	 * Constructor function for initializing an instance of this object.
 	 */
-	public AnalysisH() {		
-		ratioEduHealthData = new ArrayList<DataContainer>();
-		processedDataList = new ArrayList <ArrayList<DataContainer>>();
-	}
+	public AnalysisH() {}
 		
 	@Override
 	/**
@@ -32,7 +30,7 @@ public class AnalysisH implements Strategy {
 	public boolean doAnalysis(String country, int givenStartyear,
 			int givenEndYear, Model modelRef) {
 		// Create a concatenated array of strings for the analysis types.
-		String[] analysisTypes = {govExpEduTable, healthExpTable};
+		String[] analysisTypes = getIndicators();
 		
 		// Connect to the World-Bank and get the desired data.
 		WorldBankInterface worldBank = WorldBankInterface.getInstance();
@@ -43,20 +41,29 @@ public class AnalysisH implements Strategy {
 		if (isDataEmpty(concatenatedDataList)) { return false; }
 		
 		// Compute ratios for nonzero values from each data list.
-		computeRatios(concatenatedDataList);
+		Series ratioEduHealthData = computeRatios(concatenatedDataList);
 			
 		// Check to see there is no empty processed data lists.
 		if (ratioEduHealthData.size() == 0) { return false; }
 		
 			
 		// All computations done so just save the new data.
-		processedDataList.clear();
-		processedDataList.add(ratioEduHealthData);
-		modelRef.storeData(processedDataList);
+		modelRef.storeData(List.of(ratioEduHealthData));
 		
 		return true;
 	}
 	
+	@Override
+	/**
+	 * This function is overridden to give the World-Bank reference titles of
+	 * the data used by this type of analysis.
+	 * 
+	 * @return The reference titles, in the order the data is requested.
+	 */
+	public String[] getIndicators() {
+		return new String[] {govExpEduTable, healthExpTable};
+	}
+	
 	/**
 	 * This function is used to check if any data series returned has a size
 	 * of 0.
@@ -64,7 +71,7 @@ public class AnalysisH implements Strategy {
 	 * @param data The concatenated array of data values from the server.
 	 * @return True if the data list is empty, false otherwise.
 	 */
-	private boolean isDataEmpty(ArrayList<ArrayList<DataContainer>> data) {
+	private boolean isDataEmpty(ArrayList<Series> data) {
 		int series = data.size();
 		
 		// Loop through all available series and check sizes.
@@ -80,26 +87,36 @@ public class AnalysisH implements Strategy {
 	 * acquired form the world bank.
 	 * 
 	 * @param data The concatenated array of data values from the server.
+	 * @return A new data series holding the ratios.
 	 */
-	private void computeRatios(ArrayList<ArrayList<DataContainer>> data) {
-		int years = data.get(0).size();
+	private Series computeRatios(ArrayList<Series> data) {
+		Series first = data.get(0);
+		Series second = data.get(1);
+		int years = first.size();
 		
-		// Clear out previous data.
-		ratioEduHealthData.clear();
+		// Collect the ratios into a new series.
+		SeriesBuffer ratioEduHealthBuffer = new SeriesBuffer(years);
 		
-		// Loop through all the yearly attributes.
+		// Loop through all the yearly attributes, pairing the values by year
+		// since the two series may not span the same years.
 		for (int i = 0; i < years; i++) {
-			var year = data.get(0).get(i).getYear();
-			var govExpenditure = data.get(0).get(i).getValue();
-			var healthExpenditure = data.get(1).get(i).getValue();
+			var year = first.getYear(i);
+			var index = second.indexOfYear(year);
+			
+			if (index < 0) { continue; }
+			
+			var govExpenditure = first.getValue(i);
+			var healthExpenditure = second.getValue(index);
 			
 			// Skip zero value elements.
 			if (govExpenditure == 0 || healthExpenditure == 0) { continue; }
 			
 			// Compute ratio and append to the data series.
 			var ratio = govExpenditure / healthExpenditure;
-			ratioEduHealthData.add(new DataContainer(year,ratio));
+			ratioEduHealthBuffer.add(year,ratio);
 		}
+		
+		return ratioEduHealthBuffer.toSeries();
 	}
 	
 	private
@@ -114,14 +131,4 @@ public class AnalysisH implements Strategy {
 	 * World-Bank.
 	 */
 	static final String healthExpTable = "SH.XPD.CHEX.GD.ZS";
-	
-	/**
-	 * A reference to the processed ratio data.
-	 */
-	ArrayList<DataContainer> ratioEduHealthData;
-	
-	/**
-	 * A reference to the compiled data to be used by the application.
-	 */
-	ArrayList <ArrayList<DataContainer>> processedDataList;
 }
@@ -1,4 +1,6 @@
 import java.util.HashMap;
+import java.util.function.Supplier;
+
 /**
  * This class is used to define and host a hash map that defines each of the
  * analysis types to an integer value so that the main UI is able to refer
@@ -14,26 +16,55 @@ public class AnalysisMap {
 	 * Constructor function for initializing an instance of this object.
 	 */
 	public AnalysisMap() {
-		map = new HashMap<Integer, Strategy>();
-		map.put(1, new AnalysisA());
-		map.put(2, new AnalysisB());
-		map.put(3, new AnalysisC());
-		map.put(4, new AnalysisD());
-		map.put(5, new AnalysisE());
-		map.put(6, new AnalysisF());
-		map.put(7, new AnalysisG());
-		map.put(8, new AnalysisH());
+		map = new HashMap<Integer, Supplier<Strategy>>();
+		map.put(1, AnalysisA::new);
+		map.put(2, AnalysisB::new);
+		map.put(3, AnalysisC::new);
+		map.put(4, AnalysisD::new);
+		map.put(5, AnalysisE::new);
+		map.put(6, AnalysisF::new);
+		map.put(7, AnalysisG::new);
+		map.put(8, AnalysisH::new);
 	}
 	
 	/**
 	 * This function is used to retrieve an analysis type based on the key
-	 * index provided.
+	 * index provided. A new instance is created on every call, so analyses
+	 * running at the same time never share their working data.
 	 * 
 	 * @param key The key index value to retrieve from the map.
-	 * @return The mapping strategy assigned to the key.
+	 * @return The mapping strategy assigned to the key, null if there is none.
 	 */
 	public Strategy getAnalysis(int key) {
-		return map.get(key);
+		var analysis = map.get(key);
+		return analysis == null ? null : analysis.get();
+	}
+	
+	/**
+	 * This function is used to retrieve the title of an analysis type.
+	 * 
+	 * @param key The key index value of the analysis type.
+	 * @return The title of the analysis type.
+	 */
+	public static String getTitle(int key) {
+		if (key < 1 || key > analysisTitles.length) { return "Unknown"; }
+		
+		return analysisTitles[key - 1];
+	}
+	
+	/**
+	 * This function is used to retrieve the names of the data series produced
+	 * by an analysis type, in the order they are stored to the model.
+	 * 
+	 * @param key The key index value of the analysis type.
+	 * @return The names of the data series of the analysis type.
+	 */
+	public static String[] getSeriesNames(int key) {
+		if (key < 1 || key > seriesNames.length) {
+			return new String[] {"Unknown"};
+		}
+		
+		return seriesNames[key - 1].clone();
 	}
 	
 	private 
@@ -41,5 +72,33 @@ public class AnalysisMap {
 	 * A mapping of all eight analysis types to an integer value for the main
 	 * UI to use for invoking the appropriate analysis.
 	 */
-	static HashMap<Integer, Strategy> map;
+	final HashMap<Integer, Supplier<Strategy>> map;
+	
+	/**
+	 * A reference to the title of each analysis type.
+	 */
+	static final String[] analysisTitles = {
+			"CO2 Emissions vs Energy Use vs PM2.5 Air Pollution",
+			"PM2.5 Air Pollution vs Forest Area",
+			"Ratio of CO2 Emissions & GDP per Capita",
+			"Average Forest Area",
+			"Average Gov. Expenditure on Education",
+			"Ratio Of Hospital Beds and Current Health Expenditure per 1000",
+			"Current Health Expenditure per Capita vs Mortality Rate",
+			"Ratio of Gov. Expenditure on Education & Current Health Expenditure"};
+	
+	/**
+	 * A reference to the names of the data series of each analysis type.
+	 */
+	static final String[][] seriesNames = {
+			{"CO2 Emissions (metric tons/capita)",
+					"Energy Use (kg of oil/capita)", "PM2.5 (micrograms/m^3)"},
+			{"PM2.5 (micrograms/m^3)", "Forest Area (% of Land)"},
+			{"CO2 / GDP (metric tons/US$)"},
+			{"Forest Area (% of Land)"},
+			{"Government Expenditure (% of GDP)"},
+			{"Hospital Beds/1000", "Health Expenditure/1000 (US$)"},
+			{"Current Health Expenditure/Capita (US$)",
+					"Mortality Rate/1000 Births"},
+			{"Gov. Expenditure/Health Expenditure"}};
 }
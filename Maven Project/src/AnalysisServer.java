@@ -0,0 +1,369 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.gson.stream.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * This class is used to serve the analyses over HTTP without the UI, so that
+ * other services can query them. A request such as
+ * /analysis/3?country=CAN&from=1990&to=2020 is validated against the same
+ * database as the UI, analysed on the thread of the request with a model of
+ * its own and answered with the data series as JSON. The data is fetched
+ * through the World-Bank interface, so every request shares its cache and
+ * the fetches already in progress.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see AnalysisMap ProxyDatabase BatchResult
+ */
+public class AnalysisServer {
+	/**
+	 * Main function for serving the analyses until the process is stopped.
+	 *
+	 * @param args Command line arguments passed to the server.
+	 */
+	public static void main(String[] args) {
+		int port = defaultPort;
+		int threads = defaultThreads;
+		
+		try {
+			for (int i = 0; i < args.length; i += 2) {
+				if (i + 1 >= args.length) {
+					throw new IllegalArgumentException("Missing value for "
+							+ args[i]);
+				}
+				
+				switch (args[i]) {
+				case "--port":
+					port = parseNumber(args[i + 1]);
+					break;
+				case "--threads":
+					threads = Math.max(1, parseNumber(args[i + 1]));
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option " + args[i]);
+				}
+			}
+		} catch (IllegalArgumentException err) {
+			System.err.println(err.getMessage());
+			System.err.println(usage);
+			System.exit(2);
+			return;
+		}
+		
+		try {
+			AnalysisServer server = new AnalysisServer(port, threads);
+			server.start();
+			Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+			System.out.println("Serving analyses on http://localhost:"
+					+ server.getPort() + contextPath + "{1-8}");
+		} catch (IOException err) {
+			err.printStackTrace();
+			System.exit(1);
+		}
+	}
+	
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param port The port to listen on, 0 for any free port.
+	 * @param threads The number of requests handled at the same time.
+	 * @throws IOException If the port can't be listened on.
+	 */
+	public AnalysisServer(int port, int threads) throws IOException {
+		proxyDatabase = new ProxyDatabase();
+		analysisMap = new AnalysisMap();
+		server = HttpServer.create(new InetSocketAddress(port), backlog);
+		server.createContext(contextPath, this::handleAnalysis);
+		
+		// Requests beyond the number of threads wait in the queue of the pool
+		// rather than being refused.
+		requestPool = Executors.newFixedThreadPool(threads, task -> {
+			Thread thread = new Thread(task, "analysis-request");
+			thread.setDaemon(true);
+			return thread;
+		});
+		server.setExecutor(requestPool);
+	}
+	
+	/**
+	 * This function is used to start answering requests.
+	 */
+	public void start() {
+		server.start();
+	}
+	
+	/**
+	 * This function is used to stop answering requests, giving those in
+	 * progress a moment to finish.
+	 */
+	public void stop() {
+		server.stop(1);
+		requestPool.shutdown();
+	}
+	
+	/**
+	 * This function is used to retrieve the port the server listens on.
+	 *
+	 * @return The port number.
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+	
+	/**
+	 * This function is used to answer a request for an analysis.
+	 *
+	 * @param exchange The request and its response.
+	 * @throws IOException If the response can't be sent.
+	 */
+	private void handleAnalysis(HttpExchange exchange) throws IOException {
+		try {
+			if (!exchange.getRequestMethod().equals("GET")) {
+				exchange.getResponseHeaders().set("Allow", "GET");
+				sendError(exchange, 405, "Only GET is supported");
+				return;
+			}
+			
+			// Read the criteria of the analysis from the path and query.
+			String type = exchange.getRequestURI().getPath()
+					.substring(contextPath.length());
+			int analysisType;
+			String country;
+			int startYear;
+			int endYear;
+			
+			try {
+				analysisType = parseNumber(type);
+				Map<String, String> query = parseQuery(
+						exchange.getRequestURI().getRawQuery());
+				country = getParameter(query, "country").toUpperCase();
+				startYear = parseNumber(getParameter(query, "from"));
+				endYear = parseNumber(getParameter(query, "to"));
+			} catch (IllegalArgumentException err) {
+				sendError(exchange, 400, err.getMessage());
+				return;
+			}
+			
+			if (analysisType < 1 || analysisType > 8) {
+				sendError(exchange, 404, "Unknown analysis " + type);
+				return;
+			}
+			
+			// Validate the criteria the same way as the UI does.
+			switch (proxyDatabase.isValidSetup(analysisType, country,
+					startYear, endYear)) {
+			case 0:
+				break;
+			case 1:
+				sendError(exchange, 400, "Invalid time range for analysis");
+				return;
+			case 2:
+				sendError(exchange, 400, "Invalid country for analysis");
+				return;
+			case 4:
+				sendError(exchange, 400, "Starting year is after the ending year");
+				return;
+			case 5:
+				sendError(exchange, 404, "No data available for the time range");
+				return;
+			default:
+				sendError(exchange, 400, "Unexpected format");
+				return;
+			}
+			
+			// Only request the years that may hold data.
+			int[] availableYears = proxyDatabase.findAvailableYears(analysisType,
+					country, startYear, endYear);
+			
+			if (availableYears == null) {
+				sendError(exchange, 404, "No data available for the time range");
+				return;
+			}
+			
+			// Each request is already on a thread of its own, so the analysis
+			// is run in place with a model that is not shown anywhere.
+			Model model = Model.createDetached();
+			
+			if (!analysisMap.getAnalysis(analysisType).doAnalysis(country,
+					availableYears[0], availableYears[1], model)) {
+				sendError(exchange, 422, "Not enough data for the analysis");
+				return;
+			}
+			
+			BatchResult result = new BatchResult(country, analysisType,
+					availableYears[0], availableYears[1], true,
+					model.getState().getSeries());
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			
+			try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(body,
+					StandardCharsets.UTF_8))) {
+				result.writeJson(writer);
+			}
+			
+			sendJson(exchange, 200, body.toByteArray());
+		} catch (RuntimeException err) {
+			err.printStackTrace();
+			sendError(exchange, 500, "Analysis failed");
+		} finally {
+			exchange.close();
+		}
+	}
+	
+	/**
+	 * This function is used to answer a request with an error.
+	 *
+	 * @param exchange The request and its response.
+	 * @param status The HTTP status of the response.
+	 * @param message A description detailing the cause of the error.
+	 * @throws IOException If the response can't be sent.
+	 */
+	private static void sendError(HttpExchange exchange, int status,
+			String message) throws IOException {
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		
+		try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(body,
+				StandardCharsets.UTF_8))) {
+			writer.beginObject();
+			writer.name("error").value(message);
+			writer.endObject();
+		}
+		
+		sendJson(exchange, status, body.toByteArray());
+	}
+	
+	/**
+	 * This function is used to answer a request with a JSON body.
+	 *
+	 * @param exchange The request and its response.
+	 * @param status The HTTP status of the response.
+	 * @param body The JSON body of the response.
+	 * @throws IOException If the response can't be sent.
+	 */
+	private static void sendJson(HttpExchange exchange, int status, byte[] body)
+			throws IOException {
+		exchange.getResponseHeaders().set("Content-Type",
+				"application/json; charset=utf-8");
+		exchange.sendResponseHeaders(status, body.length);
+		
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(body);
+		}
+	}
+	
+	/**
+	 * This function is used to read the parameters of a query string.
+	 *
+	 * @param rawQuery The query string as it was sent, null if there is none.
+	 * @return The value of each parameter by name.
+	 */
+	private static Map<String, String> parseQuery(String rawQuery) {
+		HashMap<String, String> query = new HashMap<String, String>();
+		
+		if (rawQuery == null) { return query; }
+		
+		for (String pair : rawQuery.split("&")) {
+			int split = pair.indexOf('=');
+			
+			if (split < 0) { continue; }
+			
+			query.put(URLDecoder.decode(pair.substring(0, split),
+					StandardCharsets.UTF_8), URLDecoder.decode(
+							pair.substring(split + 1), StandardCharsets.UTF_8));
+		}
+		
+		return query;
+	}
+	
+	/**
+	 * This function is used to retrieve a parameter that must be given.
+	 *
+	 * @param query The parameters of the query string.
+	 * @param name The name of the parameter.
+	 * @return The value of the parameter.
+	 */
+	private static String getParameter(Map<String, String> query, String name) {
+		String value = query.get(name);
+		
+		if (value == null || value.isBlank()) {
+			throw new IllegalArgumentException("Missing parameter " + name);
+		}
+		
+		return value.trim();
+	}
+	
+	/**
+	 * This function is used to read a number given in a request or on the
+	 * command line.
+	 *
+	 * @param value The text of the number.
+	 * @return The number.
+	 */
+	private static int parseNumber(String value) {
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException err) {
+			throw new IllegalArgumentException("Invalid number " + value);
+		}
+	}
+	
+	private
+	/**
+	 * Reference to the database used for validating the requests.
+	 */
+	final ProxyDatabase proxyDatabase;
+	
+	/**
+	 * Reference to the analysis map for deciding the analysis type.
+	 */
+	final AnalysisMap analysisMap;
+	
+	/**
+	 * Reference to the HTTP server answering the requests.
+	 */
+	final HttpServer server;
+	
+	/**
+	 * Reference to the threads the requests are handled on.
+	 */
+	final ExecutorService requestPool;
+	
+	/**
+	 * Reference to the path the analyses are served under.
+	 */
+	static final String contextPath = "/analysis/";
+	
+	/**
+	 * Reference to the port listened on by default.
+	 */
+	static final int defaultPort = 8080;
+	
+	/**
+	 * Reference to the number of requests handled at the same time by
+	 * default. Most of them are waiting on a fetch shared with others, so
+	 * this is far more than the number of cores.
+	 */
+	static final int defaultThreads = 256;
+	
+	/**
+	 * Reference to the number of connections left waiting to be accepted.
+	 */
+	static final int backlog = 4096;
+	
+	/**
+	 * Reference to the description of the command line options.
+	 */
+	static final String usage = "Usage: AnalysisServer [--port 8080]"
+			+ " [--threads 256]";
+}
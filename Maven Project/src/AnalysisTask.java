@@ -0,0 +1,99 @@
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class is used to analyse a list of countries on a fork-join pool by
+ * splitting it in halves until a single country is left, then joining the
+ * results back in the order of the list.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see AnalysisEngine
+ */
+public class AnalysisTask extends RecursiveTask<Map<String, BatchResult>> {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param givenEngine The engine running the analyses.
+	 * @param givenAnalysisType The type of analysis to run.
+	 * @param givenCountries The ISO3 codes of the countries to analyse.
+	 * @param givenStartYear The start year of the analysis.
+	 * @param givenEndYear The end year of the analysis.
+	 */
+	public AnalysisTask(AnalysisEngine givenEngine, int givenAnalysisType,
+			List<String> givenCountries, int givenStartYear, int givenEndYear) {
+		engine = givenEngine;
+		analysisType = givenAnalysisType;
+		countries = givenCountries;
+		startYear = givenStartYear;
+		endYear = givenEndYear;
+	}
+	
+	@Override
+	/**
+	 * This function is used to analyse the countries of the task, splitting
+	 * the work whenever there is more than one.
+	 *
+	 * @return The result for each country, in the order they were given.
+	 */
+	protected Map<String, BatchResult> compute() {
+		if (countries.size() == 1) {
+			Map<String, BatchResult> results =
+					new LinkedHashMap<String, BatchResult>();
+			results.put(countries.get(0), engine.analyse(analysisType,
+					countries.get(0), startYear, endYear));
+			return results;
+		}
+		
+		// Analyse the first half on another worker while doing the second.
+		int middle = countries.size() / 2;
+		AnalysisTask first = new AnalysisTask(engine, analysisType,
+				countries.subList(0, middle), startYear, endYear);
+		AnalysisTask second = new AnalysisTask(engine, analysisType,
+				countries.subList(middle, countries.size()), startYear, endYear);
+		
+		first.fork();
+		Map<String, BatchResult> secondResults = second.compute();
+		Map<String, BatchResult> results = first.join();
+		
+		// Countries given twice keep the result of their first appearance.
+		for (Map.Entry<String, BatchResult> entry : secondResults.entrySet()) {
+			results.putIfAbsent(entry.getKey(), entry.getValue());
+		}
+		
+		return results;
+	}
+	
+	private
+	/**
+	 * Reference to the engine running the analyses.
+	 */
+	final AnalysisEngine engine;
+	
+	/**
+	 * Reference to the type of analysis to run.
+	 */
+	final int analysisType;
+	
+	/**
+	 * Reference to the ISO3 codes of the countries to analyse.
+	 */
+	final List<String> countries;
+	
+	/**
+	 * Reference to the start year of the analysis.
+	 */
+	final int startYear;
+	
+	/**
+	 * Reference to the end year of the analysis.
+	 */
+	final int endYear;
+	
+	/**
+	 * Reference to the serial version of this class.
+	 */
+	static final long serialVersionUID = 1L;
+}
@@ -1,3 +1,4 @@
+import java.util.Arrays;
 import javax.swing.JFrame;
 
 /**
@@ -16,6 +17,24 @@ public class Application {
 	 * @param args Command line arguments passed to the application.
 	 */	
 	public static void main(String[] args) {
+		// Run the analyses without any window when asked for a batch.
+		if (args.length > 0 && args[0].equals("--batch")) {
+			BatchRunner.main(Arrays.copyOfRange(args, 1, args.length));
+			return;
+		}
+		
+		// Serve the analyses over HTTP without any window when asked to.
+		if (args.length > 0 && args[0].equals("--server")) {
+			AnalysisServer.main(Arrays.copyOfRange(args, 1, args.length));
+			return;
+		}
+		
+		// Import a bulk download of the World-Bank data when asked to.
+		if (args.length > 0 && args[0].equals("--import")) {
+			WdiImporter.main(Arrays.copyOfRange(args, 1, args.length));
+			return;
+		}
+		
 		// Create the Login window for validating user credentials.
 		ProxyDatabase proxyDatabase = new ProxyDatabase();
 		Login loginWindow = Login.getInstance(proxyDatabase);
@@ -0,0 +1,158 @@
+import java.io.IOException;
+import java.util.List;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * This class defines the outcome of one analysis run by the batch runner for
+ * a country and range of years.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see AnalysisEngine BatchRunner AnalysisServer
+ */
+public class BatchResult {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param givenCountry The country the analysis was run for.
+	 * @param givenAnalysisType The type of analysis run, from 1 to 8.
+	 * @param givenStartYear The start year of the analysis.
+	 * @param givenEndYear The end year of the analysis.
+	 * @param givenSuccess True if the analysis was completed successfully.
+	 * @param givenSeries The data series produced, empty if it failed.
+	 */
+	public BatchResult(String givenCountry, int givenAnalysisType,
+			int givenStartYear, int givenEndYear, boolean givenSuccess,
+			List<Series> givenSeries) {
+		country = givenCountry;
+		analysisType = givenAnalysisType;
+		startYear = givenStartYear;
+		endYear = givenEndYear;
+		success = givenSuccess;
+		series = List.copyOf(givenSeries);
+	}
+	
+	/**
+	 * This function is used to retrieve the country of the analysis.
+	 *
+	 * @return The ISO3 code of the country.
+	 */
+	public String getCountry() { return country; }
+	
+	/**
+	 * This function is used to retrieve the type of analysis run.
+	 *
+	 * @return The type of analysis, from 1 to 8.
+	 */
+	public int getAnalysisType() { return analysisType; }
+	
+	/**
+	 * This function is used to retrieve the start year of the analysis.
+	 *
+	 * @return The start year.
+	 */
+	public int getStartYear() { return startYear; }
+	
+	/**
+	 * This function is used to retrieve the end year of the analysis.
+	 *
+	 * @return The end year.
+	 */
+	public int getEndYear() { return endYear; }
+	
+	/**
+	 * This function is used to check if the analysis was successful.
+	 *
+	 * @return True if the analysis was completed successfully.
+	 */
+	public boolean isSuccess() { return success; }
+	
+	/**
+	 * This function is used to retrieve the data series produced.
+	 *
+	 * @return An unmodifiable list of the data series, empty if it failed.
+	 */
+	public List<Series> getSeries() { return series; }
+	
+	/**
+	 * This function is used to write the result as a JSON object holding the
+	 * criteria of the analysis and each of its data series by name.
+	 *
+	 * @param writer The writer to write the object to.
+	 * @throws IOException If the object can't be written.
+	 */
+	public void writeJson(JsonWriter writer) throws IOException {
+		String[] names = AnalysisMap.getSeriesNames(analysisType);
+		
+		writer.beginObject();
+		writer.name("country").value(country);
+		writer.name("analysis").value(analysisType);
+		writer.name("title").value(AnalysisMap.getTitle(analysisType));
+		writer.name("startYear").value(startYear);
+		writer.name("endYear").value(endYear);
+		writer.name("success").value(success);
+		writer.name("series").beginArray();
+		
+		for (int i = 0; i < series.size(); i++) {
+			Series data = series.get(i);
+			
+			writer.beginObject();
+			writer.name("name").value(i < names.length ? names[i] : "");
+			writer.name("data").beginArray();
+			
+			for (int j = 0; j < data.size(); j++) {
+				double value = data.getValue(j);
+				
+				writer.beginObject();
+				writer.name("year").value(data.getYear(j));
+				
+				// JSON has no way to write values that are not finite.
+				if (data.isPresent(j) && Double.isFinite(value)) {
+					writer.name("value").value(value);
+				} else {
+					writer.name("value").nullValue();
+				}
+				
+				writer.endObject();
+			}
+			
+			writer.endArray();
+			writer.endObject();
+		}
+		
+		writer.endArray();
+		writer.endObject();
+	}
+	
+	private
+	/**
+	 * Reference to the country the analysis was run for.
+	 */
+	final String country;
+	
+	/**
+	 * Reference to the type of analysis run.
+	 */
+	final int analysisType;
+	
+	/**
+	 * Reference to the start year of the analysis.
+	 */
+	final int startYear;
+	
+	/**
+	 * Reference to the end year of the analysis.
+	 */
+	final int endYear;
+	
+	/**
+	 * Reference to whether the analysis was completed successfully.
+	 */
+	final boolean success;
+	
+	/**
+	 * Reference to the data series produced by the analysis.
+	 */
+	final List<Series> series;
+}
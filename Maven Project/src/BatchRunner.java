@@ -0,0 +1,409 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * This class is used to run analyses without the UI, for many countries and
+ * ranges of years at once, and write their results to CSV and JSON files. The
+ * countries are analysed side by side by the analysis engine.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see AnalysisEngine BatchResult
+ */
+public class BatchRunner {
+	/**
+	 * Main function for running the analyses given on the command line.
+	 *
+	 * @param args Command line arguments passed to the batch runner.
+	 */
+	public static void main(String[] args) {
+		BatchRunner runner;
+		
+		try {
+			runner = new BatchRunner(args);
+		} catch (IllegalArgumentException | IOException err) {
+			System.err.println(err.getMessage());
+			System.err.println(usage);
+			System.exit(2);
+			return;
+		}
+		
+		try {
+			runner.run();
+		} catch (IOException err) {
+			err.printStackTrace();
+			System.exit(1);
+		}
+	}
+	
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param args Command line arguments describing the analyses to run.
+	 * @throws IOException If the list of countries or years can't be read.
+	 */
+	public BatchRunner(String[] args) throws IOException {
+		countries = new ArrayList<String>();
+		analysisTypes = new ArrayList<Integer>();
+		yearRanges = new ArrayList<int[]>();
+		outputDirectory = Paths.get(defaultOutputDirectory);
+		threads = Runtime.getRuntime().availableProcessors();
+		
+		for (int i = 0; i < args.length; i += 2) {
+			if (i + 1 >= args.length) {
+				throw new IllegalArgumentException("Missing value for " + args[i]);
+			}
+			
+			String value = args[i + 1];
+			
+			switch (args[i]) {
+			case "--countries":
+				parseCountries(value);
+				break;
+			case "--analyses":
+				parseAnalysisTypes(value);
+				break;
+			case "--years":
+				parseYearRanges(value);
+				break;
+			case "--out":
+				outputDirectory = Paths.get(value);
+				break;
+			case "--format":
+				writeCsv = value.contains("csv");
+				writeJson = value.contains("json");
+				break;
+			case "--threads":
+				threads = Math.max(1, parseNumber(value));
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown option " + args[i]);
+			}
+		}
+		
+		// Run everything that can be run when nothing was chosen.
+		if (countries.isEmpty()) { parseCountries("all"); }
+		if (analysisTypes.isEmpty()) { parseAnalysisTypes("1-8"); }
+	}
+	
+	/**
+	 * This function is used to run every analysis for every country and range
+	 * of years, and write the results once they have all finished.
+	 *
+	 * @return The results of the analyses, in the order they were run.
+	 * @throws IOException If the results can't be written.
+	 */
+	public List<BatchResult> run() throws IOException {
+		AnalysisEngine engine = new AnalysisEngine(threads);
+		ArrayList<BatchResult> results = new ArrayList<BatchResult>();
+		int completed = 0;
+		
+		try {
+			// Run each analysis and range of years for all countries at once.
+			for (int analysisType : analysisTypes) {
+				List<int[]> ranges = yearRanges.isEmpty()
+						? List.of(getDefaultYears(analysisType)) : yearRanges;
+				
+				for (int[] range : ranges) {
+					for (BatchResult result : engine.analyse(analysisType,
+							countries, range[0], range[1]).values()) {
+						System.out.println(result.getCountry() + " analysis "
+								+ analysisType + " (" + range[0] + "-" + range[1]
+								+ "): " + (result.isSuccess() ? "done"
+										: "insufficient data"));
+						results.add(result);
+						
+						if (result.isSuccess()) { completed++; }
+					}
+				}
+			}
+		} finally {
+			engine.shutdown();
+		}
+		
+		Files.createDirectories(outputDirectory);
+		
+		if (writeCsv) { writeCsv(results, outputDirectory.resolve("results.csv")); }
+		if (writeJson) { writeJson(results, outputDirectory.resolve("results.json")); }
+		
+		System.out.println("Completed " + completed + " of " + results.size()
+				+ " analyses, results written to " + outputDirectory);
+		
+		return results;
+	}
+	
+	/**
+	 * This function is used to write the results as CSV, one row per year of
+	 * each data series. Failed analyses have no rows.
+	 *
+	 * @param results The results of the analyses.
+	 * @param file The file to write to.
+	 * @throws IOException If the file can't be written.
+	 */
+	private void writeCsv(List<BatchResult> results, Path file)
+			throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(file,
+				StandardCharsets.UTF_8)) {
+			writer.write("country,analysis,title,start_year,end_year,series,"
+					+ "year,value");
+			writer.newLine();
+			
+			for (BatchResult result : results) {
+				String[] names = AnalysisMap.getSeriesNames(
+						result.getAnalysisType());
+				String prefix = result.getCountry() + ","
+						+ result.getAnalysisType() + ","
+						+ toCsvField(AnalysisMap.getTitle(result.getAnalysisType()))
+						+ "," + result.getStartYear() + ","
+						+ result.getEndYear() + ",";
+				
+				for (int i = 0; i < result.getSeries().size(); i++) {
+					Series series = result.getSeries().get(i);
+					String name = toCsvField(i < names.length ? names[i] : "");
+					
+					for (int j = 0; j < series.size(); j++) {
+						writer.write(prefix);
+						writer.write(name);
+						writer.write(",");
+						writer.write(Integer.toString(series.getYear(j)));
+						writer.write(",");
+						
+						if (series.isPresent(j)) {
+							writer.write(Double.toString(series.getValue(j)));
+						}
+						
+						writer.newLine();
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * This function is used to write the results as a JSON array holding an
+	 * object for each analysis, failed ones included.
+	 *
+	 * @param results The results of the analyses.
+	 * @param file The file to write to.
+	 * @throws IOException If the file can't be written.
+	 */
+	private void writeJson(List<BatchResult> results, Path file)
+			throws IOException {
+		try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(file,
+				StandardCharsets.UTF_8))) {
+			writer.setIndent("  ");
+			writer.beginArray();
+			
+			for (BatchResult result : results) {
+				result.writeJson(writer);
+			}
+			
+			writer.endArray();
+		}
+	}
+	
+	/**
+	 * This function is used to quote a CSV field when it holds a character
+	 * that would otherwise split it.
+	 *
+	 * @param field The text of the field.
+	 * @return The field as it should be written.
+	 */
+	private static String toCsvField(String field) {
+		if (field.indexOf(',') < 0 && field.indexOf('"') < 0
+				&& field.indexOf('\n') < 0) { return field; }
+		
+		return "\"" + field.replace("\"", "\"\"") + "\"";
+	}
+	
+	/**
+	 * This function is used to read the chosen countries, either a comma
+	 * separated list of ISO3 codes or all for every country in the list.
+	 *
+	 * @param value The value given on the command line.
+	 * @throws IOException If the list of countries can't be read.
+	 */
+	private void parseCountries(String value) throws IOException {
+		if (!value.equalsIgnoreCase("all")) {
+			for (String country : value.split(",")) {
+				countries.add(country.trim().toUpperCase());
+			}
+			
+			return;
+		}
+		
+		for (String line : Files.readAllLines(Paths.get(countryListFile))) {
+			String[] countrySplit = line.split(",");
+			
+			if (countrySplit.length > 1) { countries.add(countrySplit[1].trim()); }
+		}
+	}
+	
+	/**
+	 * This function is used to read the chosen analysis types, as a comma
+	 * separated list of types from 1 to 8 or ranges of them such as 2-5.
+	 *
+	 * @param value The value given on the command line.
+	 */
+	private void parseAnalysisTypes(String value) {
+		for (int[] range : parseRanges(value)) {
+			for (int type = range[0]; type <= range[1]; type++) {
+				if (type < 1 || type > 8) {
+					throw new IllegalArgumentException("Unknown analysis " + type);
+				}
+				
+				analysisTypes.add(type);
+			}
+		}
+	}
+	
+	/**
+	 * This function is used to read the chosen ranges of years, as a comma
+	 * separated list of ranges such as 2000-2020.
+	 *
+	 * @param value The value given on the command line.
+	 */
+	private void parseYearRanges(String value) {
+		for (int[] range : parseRanges(value)) {
+			if (range[0] > range[1]) {
+				throw new IllegalArgumentException("Invalid years " + range[0]
+						+ "-" + range[1]);
+			}
+			
+			yearRanges.add(range);
+		}
+	}
+	
+	/**
+	 * This function is used to read a comma separated list of numbers or
+	 * ranges of them.
+	 *
+	 * @param value The value given on the command line.
+	 * @return The first and last number of each range.
+	 */
+	private static List<int[]> parseRanges(String value) {
+		ArrayList<int[]> ranges = new ArrayList<int[]>();
+		
+		for (String part : value.split(",")) {
+			String[] bounds = part.trim().split("-");
+			int first = parseNumber(bounds[0]);
+			int last = bounds.length > 1 ? parseNumber(bounds[1]) : first;
+			ranges.add(new int[] {first, last});
+		}
+		
+		return ranges;
+	}
+	
+	/**
+	 * This function is used to read a number given on the command line.
+	 *
+	 * @param value The text of the number.
+	 * @return The number.
+	 */
+	private static int parseNumber(String value) {
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException err) {
+			throw new IllegalArgumentException("Invalid number " + value);
+		}
+	}
+	
+	/**
+	 * This function is used to find the range of years valid for an analysis
+	 * type from the year database, for when no years were chosen.
+	 *
+	 * @param analysisType The type of analysis.
+	 * @return The first and last valid year of the analysis.
+	 */
+	private static int[] getDefaultYears(int analysisType) {
+		try {
+			List<String> lines = Files.readAllLines(Paths.get(yearListFile));
+			String[] yearSplit = lines.get(analysisType - 1).split(",");
+			
+			return new int[] {Integer.parseInt(yearSplit[0].trim()),
+					Integer.parseInt(yearSplit[1].trim())};
+		} catch (IOException | RuntimeException err) {
+			System.err.println("Could not read the years of analysis "
+					+ analysisType + ", using " + fallbackStartYear + "-"
+					+ fallbackEndYear);
+			return new int[] {fallbackStartYear, fallbackEndYear};
+		}
+	}
+	
+	private
+	/**
+	 * Reference to the ISO3 codes of the countries to analyse.
+	 */
+	ArrayList<String> countries;
+	
+	/**
+	 * Reference to the types of analysis to run.
+	 */
+	ArrayList<Integer> analysisTypes;
+	
+	/**
+	 * Reference to the ranges of years to analyse, empty for the valid range
+	 * of each analysis type.
+	 */
+	ArrayList<int[]> yearRanges;
+	
+	/**
+	 * Reference to the directory the results are written to.
+	 */
+	Path outputDirectory;
+	
+	/**
+	 * Reference to whether the results are written as CSV.
+	 */
+	boolean writeCsv = true;
+	
+	/**
+	 * Reference to whether the results are written as JSON.
+	 */
+	boolean writeJson = true;
+	
+	/**
+	 * Reference to the number of countries analysed at the same time.
+	 */
+	int threads;
+	
+	/**
+	 * Reference to the directory the results are written to by default.
+	 */
+	static final String defaultOutputDirectory = "batch_output";
+	
+	/**
+	 * Reference to the database of the countries available.
+	 */
+	static final String countryListFile = "country_list.txt";
+	
+	/**
+	 * Reference to the database of the valid years of each analysis type.
+	 */
+	static final String yearListFile = "year_analysis.txt";
+	
+	/**
+	 * Reference to the start year used when the year database can't be read.
+	 */
+	static final int fallbackStartYear = 2000;
+	
+	/**
+	 * Reference to the end year used when the year database can't be read.
+	 */
+	static final int fallbackEndYear = 2020;
+	
+	/**
+	 * Reference to the description of the command line options.
+	 */
+	static final String usage = "Usage: BatchRunner [--countries all|USA,CAN]"
+			+ " [--analyses 1-8] [--years 2000-2020[,1990-2000]]"
+			+ " [--out batch_output] [--format csv,json] [--threads N]";
+}
@@ -0,0 +1,549 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * This class is used to hold a whole panel of World-Bank data on the local
+ * disk, imported in bulk, so that it can be served without the network. The
+ * file holds the codes of the countries and indicators followed by one column
+ * of values per indicator, each made of a run of years per country, with NaN
+ * marking the years without a value. The values are floats or doubles, as
+ * chosen on import. The file is mapped into memory rather than read, so only
+ * the parts used are ever loaded.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see WdiImporter WorldBankInterface DataCube
+ */
+public class ColumnarStore {
+	/**
+	 * Constructor function for opening a store written before.
+	 *
+	 * @param givenFile The file holding the store.
+	 * @throws IOException If the file can't be read or was not written as a
+	 * store.
+	 */
+	public ColumnarStore(Path givenFile) throws IOException {
+		try (FileChannel channel = FileChannel.open(givenFile,
+				StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Store too large to map: " + givenFile);
+			}
+			
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+					channel.size());
+		}
+		
+		if (buffer.remaining() < fixedHeaderSize || buffer.getInt() != magic) {
+			throw new IOException("Not a columnar store: " + givenFile);
+		}
+		
+		// The first stores held doubles only and did not give their size.
+		int version = buffer.getInt();
+		int valueBytes = version == 1 ? Double.BYTES : buffer.getInt();
+		
+		if (version < 1 || version > formatVersion
+				|| (valueBytes != Float.BYTES && valueBytes != Double.BYTES)) {
+			throw new IOException("Unsupported columnar store: " + givenFile);
+		}
+		
+		firstYear = buffer.getInt();
+		yearCount = buffer.getInt();
+		countries = readCodes(buffer, buffer.getInt());
+		indicators = readCodes(buffer, buffer.getInt());
+		countryIds = makeIds(countries);
+		indicatorIds = makeIds(indicators);
+		int valuesAt = align(buffer.position());
+		
+		if (buffer.capacity() < valuesAt + (long) indicators.size()
+				* countries.size() * yearCount * valueBytes) {
+			throw new IOException("Truncated columnar store: " + givenFile);
+		}
+		
+		cube = new DataCube(buffer, valuesAt, countries.size(),
+				indicators.size(), firstYear, yearCount, valueBytes);
+	}
+	
+	/**
+	 * This function is used to open the store at its default location, which
+	 * may be changed through the worldbank.bulk.file property. The store is
+	 * opened once and shared by every caller.
+	 *
+	 * @return The store, or null if none has been imported.
+	 */
+	public static synchronized ColumnarStore openDefault() {
+		if (defaultOpened) { return defaultStore; }
+		
+		Path file = getDefaultFile();
+		defaultOpened = true;
+		
+		if (!Files.isRegularFile(file)) { return null; }
+		
+		try {
+			defaultStore = new ColumnarStore(file);
+		} catch (IOException err) {
+			System.err.println(err.getMessage());
+		}
+		
+		return defaultStore;
+	}
+	
+	/**
+	 * This function is used to retrieve the default location of the store.
+	 *
+	 * @return The file holding the store.
+	 */
+	public static Path getDefaultFile() {
+		return Paths.get(System.getProperty("worldbank.bulk.file",
+				defaultFile));
+	}
+	
+	/**
+	 * This function is used to write an empty store, every value marked as
+	 * missing, for the values to be filled in afterwards through the buffer
+	 * returned. The file is written aside and only moved into place once
+	 * it is complete.
+	 *
+	 * @param file The file to write the store to.
+	 * @param firstYear The first year of every run of values.
+	 * @param yearCount The number of years in every run of values.
+	 * @param countries The codes of the countries, in the order of the runs.
+	 * @param indicators The codes of the indicators, in the order of the
+	 * columns.
+	 * @param valueBytes The size of each value, 4 for floats or 8 for
+	 * doubles.
+	 * @return A writer for filling in the values.
+	 * @throws IOException If the file can't be written.
+	 */
+	public static Writer create(Path file, int firstYear, int yearCount,
+			List<String> countries, List<String> indicators, int valueBytes)
+			throws IOException {
+		if (valueBytes != Float.BYTES && valueBytes != Double.BYTES) {
+			throw new IllegalArgumentException("Values must be floats or doubles");
+		}
+		
+		ByteBuffer header = ByteBuffer.allocate(fixedHeaderSize + Integer.BYTES
+				+ codesSize(countries) + codesSize(indicators));
+		header.putInt(magic);
+		header.putInt(formatVersion);
+		header.putInt(valueBytes);
+		header.putInt(firstYear);
+		header.putInt(yearCount);
+		writeCodes(header, countries);
+		writeCodes(header, indicators);
+		
+		long valuesAt = align(header.position());
+		long size = valuesAt + (long) indicators.size() * countries.size()
+				* yearCount * valueBytes;
+		
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("Panel too large for a single store");
+		}
+		
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+		MappedByteBuffer values;
+		
+		try (FileChannel channel = FileChannel.open(temporary,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			header.flip();
+			
+			while (header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+			
+			values = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+		
+		// Mark every value as missing until it is filled in.
+		for (long i = valuesAt; i < size; i += valueBytes) {
+			if (valueBytes == Float.BYTES) {
+				values.putFloat((int) i, Float.NaN);
+			} else {
+				values.putDouble((int) i, Double.NaN);
+			}
+		}
+		
+		return new Writer(file, temporary, values, (int) valuesAt, yearCount,
+				countries.size(), valueBytes);
+	}
+	
+	/**
+	 * This function is used to check if the store holds every year of a
+	 * range for a country and indicator.
+	 *
+	 * @param country The ISO3 code of the country.
+	 * @param indicator The World-Bank reference title of the data.
+	 * @param startYear The first year of the range.
+	 * @param endYear The last year of the range.
+	 * @return True if the range is covered by the store, false otherwise.
+	 */
+	public boolean covers(String country, String indicator, int startYear,
+			int endYear) {
+		return countryIds.containsKey(country)
+				&& indicatorIds.containsKey(indicator)
+				&& startYear >= firstYear && endYear <= getLastYear();
+	}
+	
+	/**
+	 * This function is used to read the data series of a country and
+	 * indicator for a range of years, the newest year first as the
+	 * World-Bank gives them. Years outside the store are left out.
+	 *
+	 * @param country The ISO3 code of the country.
+	 * @param indicator The World-Bank reference title of the data.
+	 * @param startYear The first year of the range.
+	 * @param endYear The last year of the range.
+	 * @return The data series, or null if the store does not hold it.
+	 */
+	public SeriesBuffer read(String country, String indicator, int startYear,
+			int endYear) {
+		Integer countryId = countryIds.get(country);
+		Integer indicatorId = indicatorIds.get(indicator);
+		
+		if (countryId == null || indicatorId == null) { return null; }
+		
+		int first = Math.max(startYear, firstYear);
+		int last = Math.min(endYear, getLastYear());
+		var years = cube.getSeries(countryId, indicatorId);
+		SeriesBuffer data = new SeriesBuffer(Math.max(last - first + 1, 0));
+		
+		for (int year = last; year >= first; year--) {
+			double value = years.getValue(year - firstYear);
+			
+			if (Double.isNaN(value)) {
+				data.addMissing(year);
+			} else {
+				data.add(year, value);
+			}
+		}
+		
+		return data;
+	}
+	
+	/**
+	 * This function is used to retrieve the first year held by the store.
+	 *
+	 * @return The first year.
+	 */
+	public int getFirstYear() { return firstYear; }
+	
+	/**
+	 * This function is used to retrieve the last year held by the store.
+	 *
+	 * @return The last year.
+	 */
+	public int getLastYear() { return firstYear + yearCount - 1; }
+	
+	/**
+	 * This function is used to retrieve the codes of the countries held.
+	 *
+	 * @return An unmodifiable list of the ISO3 codes.
+	 */
+	public List<String> getCountries() { return countries; }
+	
+	/**
+	 * This function is used to retrieve the codes of the indicators held.
+	 *
+	 * @return An unmodifiable list of the World-Bank reference titles.
+	 */
+	public List<String> getIndicators() { return indicators; }
+	
+	/**
+	 * This function is used to find the position of a country in the cube.
+	 *
+	 * @param country The ISO3 code of the country.
+	 * @return The position of the country, -1 if it is not held.
+	 */
+	public int getCountryId(String country) {
+		return countryIds.getOrDefault(country, -1);
+	}
+	
+	/**
+	 * This function is used to find the position of an indicator in the cube.
+	 *
+	 * @param indicator The World-Bank reference title of the data.
+	 * @return The position of the indicator, -1 if it is not held.
+	 */
+	public int getIndicatorId(String indicator) {
+		return indicatorIds.getOrDefault(indicator, -1);
+	}
+	
+	/**
+	 * This function is used to retrieve the values of the store as a cube
+	 * indexed by the positions of the countries and indicators.
+	 *
+	 * @return The cube of values, read in place.
+	 */
+	public DataCube getCube() { return cube; }
+	
+	/**
+	 * This function is used to read a table of codes.
+	 *
+	 * @param source The buffer positioned at the start of the codes.
+	 * @param count The number of codes.
+	 * @return An unmodifiable list of the codes.
+	 */
+	private static List<String> readCodes(ByteBuffer source, int count) {
+		ArrayList<String> codes = new ArrayList<String>(count);
+		
+		for (int i = 0; i < count; i++) {
+			byte[] bytes = new byte[source.getShort()];
+			source.get(bytes);
+			codes.add(new String(bytes, StandardCharsets.UTF_8));
+		}
+		
+		return List.copyOf(codes);
+	}
+	
+	/**
+	 * This function is used to write a table of codes, preceded by their
+	 * number.
+	 *
+	 * @param target The buffer to write to.
+	 * @param codes The codes to write.
+	 */
+	private static void writeCodes(ByteBuffer target, List<String> codes) {
+		target.putInt(codes.size());
+		
+		for (String code : codes) {
+			byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+			target.putShort((short) bytes.length);
+			target.put(bytes);
+		}
+	}
+	
+	/**
+	 * This function is used to work out the room taken by a table of codes,
+	 * leaving out their number.
+	 *
+	 * @param codes The codes of the table.
+	 * @return The size of the table, in bytes.
+	 */
+	private static int codesSize(List<String> codes) {
+		int size = 0;
+		
+		for (String code : codes) {
+			size += Short.BYTES + code.getBytes(StandardCharsets.UTF_8).length;
+		}
+		
+		return size;
+	}
+	
+	/**
+	 * This function is used to number the codes of a table by position.
+	 *
+	 * @param codes The codes of the table.
+	 * @return The position of each code.
+	 */
+	private static HashMap<String, Integer> makeIds(List<String> codes) {
+		HashMap<String, Integer> ids = new HashMap<String, Integer>();
+		
+		for (int i = 0; i < codes.size(); i++) {
+			ids.put(codes.get(i), i);
+		}
+		
+		return ids;
+	}
+	
+	/**
+	 * This function is used to round an offset up so that the values start
+	 * on a boundary of their size.
+	 *
+	 * @param offset The offset to round.
+	 * @return The rounded offset.
+	 */
+	private static int align(int offset) {
+		return (offset + Double.BYTES - 1) / Double.BYTES * Double.BYTES;
+	}
+	
+	/**
+	 * This class is used to fill in the values of a store being written and
+	 * move it into place once it is complete.
+	 */
+	public static final class Writer {
+		/**
+		 * Constructor function for initializing an instance of this object.
+		 *
+		 * @param givenFile The file the store is moved to once complete.
+		 * @param givenTemporary The file the store is written to.
+		 * @param givenValues The mapped contents of the file being written.
+		 * @param givenValuesAt The offset of the first value, in bytes.
+		 * @param givenYearCount The number of years in every run of values.
+		 * @param givenCountryCount The number of countries in every column.
+		 * @param givenValueBytes The size of each value, in bytes.
+		 */
+		Writer(Path givenFile, Path givenTemporary, MappedByteBuffer givenValues,
+				int givenValuesAt, int givenYearCount, int givenCountryCount,
+				int givenValueBytes) {
+			file = givenFile;
+			temporary = givenTemporary;
+			values = givenValues;
+			valuesAt = givenValuesAt;
+			yearCount = givenYearCount;
+			countryCount = givenCountryCount;
+			valueBytes = givenValueBytes;
+		}
+		
+		/**
+		 * This function is used to fill in a value.
+		 *
+		 * @param countryId The position of the country.
+		 * @param indicatorId The position of the indicator.
+		 * @param yearOffset The number of years after the first one.
+		 * @param value The value of the year.
+		 */
+		public void put(int countryId, int indicatorId, int yearOffset,
+				double value) {
+			int offset = valuesAt + ((indicatorId * countryCount + countryId)
+					* yearCount + yearOffset) * valueBytes;
+			
+			if (valueBytes == Float.BYTES) {
+				values.putFloat(offset, (float) value);
+			} else {
+				values.putDouble(offset, value);
+			}
+		}
+		
+		/**
+		 * This function is used to flush the values to disk and move the store
+		 * into place, replacing any store there.
+		 *
+		 * @throws IOException If the store can't be moved into place.
+		 */
+		public void commit() throws IOException {
+			values.force();
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		}
+		
+		/**
+		 * This function is used to drop a store that was not completed.
+		 */
+		public void abort() {
+			try {
+				Files.deleteIfExists(temporary);
+			} catch (IOException err) {
+				err.printStackTrace();
+			}
+		}
+		
+		/**
+		 * Reference to the file the store is moved to once complete.
+		 */
+		final Path file;
+		
+		/**
+		 * Reference to the file the store is written to.
+		 */
+		final Path temporary;
+		
+		/**
+		 * Reference to the mapped contents of the file being written.
+		 */
+		final MappedByteBuffer values;
+		
+		/**
+		 * Reference to the offset of the first value, in bytes.
+		 */
+		final int valuesAt;
+		
+		/**
+		 * Reference to the number of years in every run of values.
+		 */
+		final int yearCount;
+		
+		/**
+		 * Reference to the number of countries in every column.
+		 */
+		final int countryCount;
+		
+		/**
+		 * Reference to the size of each value, in bytes.
+		 */
+		final int valueBytes;
+	}
+	
+	private
+	/**
+	 * Reference to the mapped contents of the store.
+	 */
+	final MappedByteBuffer buffer;
+	
+	/**
+	 * Reference to the first year of every run of values.
+	 */
+	final int firstYear;
+	
+	/**
+	 * Reference to the number of years in every run of values.
+	 */
+	final int yearCount;
+	
+	/**
+	 * Reference to the codes of the countries, in the order of the runs.
+	 */
+	final List<String> countries;
+	
+	/**
+	 * Reference to the codes of the indicators, in the order of the columns.
+	 */
+	final List<String> indicators;
+	
+	/**
+	 * Reference to the position of each country.
+	 */
+	final HashMap<String, Integer> countryIds;
+	
+	/**
+	 * Reference to the position of each indicator.
+	 */
+	final HashMap<String, Integer> indicatorIds;
+	
+	/**
+	 * Reference to the values of the store, viewed as a cube.
+	 */
+	final DataCube cube;
+	
+	/**
+	 * Reference to the value marking the start of every store.
+	 */
+	static final int magic = 0x57444943;
+	
+	/**
+	 * Reference to the version of the store layout.
+	 */
+	static final int formatVersion = 2;
+	
+	/**
+	 * Reference to the number of bytes in the smallest header, before the
+	 * codes.
+	 */
+	static final int fixedHeaderSize = 6 * Integer.BYTES;
+	
+	/**
+	 * Reference to the default file name of the store.
+	 */
+	static final String defaultFile = "wdi_store.bin";
+	
+	/**
+	 * Reference to the store at the default location, null if there is none.
+	 */
+	static ColumnarStore defaultStore;
+	
+	/**
+	 * Reference to whether the store at the default location has been opened.
+	 */
+	static boolean defaultOpened;
+}
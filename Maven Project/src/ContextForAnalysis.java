@@ -1,3 +1,8 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 /**
  * This class is used to create a specific instance of an analysis type based
  * on the strategy design pattern working in conjunction with the analysis map. 
@@ -20,6 +25,13 @@ public class ContextForAnalysis {
 		
 		// Initialize the hash map to hold strategy as key-value pairs.
 		analysisMap = new AnalysisMap();
+		
+		// Run the analyses one at a time on a daemon thread of their own.
+		analysisPool = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "analysis");
+			thread.setDaemon(true);
+			return thread;
+		});
 	}
 		
 	/**
@@ -35,30 +47,91 @@ public class ContextForAnalysis {
 		var endYear = parameters.getEndYear();
 		
 		// Get appropriate analysis from the hash map.
-		strat = analysisMap.getAnalysis(analysisType);
+		var strat = analysisMap.getAnalysis(analysisType);
 		
 		// Apply strategy for computing the appropriate analysis.
-		return strat.doAnalysis(country, startYear, endYear, modelRef);
+		return runAnalysis(strat, country, startYear, endYear);
+	}
+	
+	/**
+	 * This function is used to execute the particular context of the analysis
+	 * in the background, so that the caller is free while the data is being
+	 * fetched. Cancelling the returned future interrupts the analysis, which
+	 * then stores nothing to the model.
+	 *
+	 * @return The future result of the execution, true if it was successful.
+	 */
+	public CompletableFuture<Boolean> executeStratAsync() {
+		// Evaluate the criteria of analysis being applied now, as the
+		// parameters may change while the analysis is running.
+		var analysisType = parameters.getAnalysisType();
+		var country = parameters.getCountry();
+		var startYear = parameters.getStartYear();
+		var endYear = parameters.getEndYear();
+		var analysis = analysisMap.getAnalysis(analysisType);
+		
+		CompletableFuture<Boolean> result = new CompletableFuture<Boolean>();
+		Future<?> task = analysisPool.submit(() -> {
+			try {
+				result.complete(runAnalysis(analysis, country, startYear,
+						endYear));
+			} catch (RuntimeException err) {
+				result.completeExceptionally(err);
+			}
+		});
+		
+		// Interrupt the analysis once the result has been cancelled.
+		result.whenComplete((success, err) -> {
+			if (result.isCancelled()) { task.cancel(true); }
+		});
+		
+		return result;
 	}
 		
-	private
 	/**
-	 * A reference to a strategy for implementing the analysis.
+	 * This function is used to apply a strategy, and show again the data shown
+	 * before it if the analysis fails or is cancelled part way through.
+	 *
+	 * @param strat The strategy of the analysis.
+	 * @param country The country of the analysis.
+	 * @param startYear The start year of the analysis.
+	 * @param endYear The end year of the analysis.
+	 * @return True if the analysis was completed successfully, false otherwise.
 	 */
-	static Strategy strat;
+	private boolean runAnalysis(Strategy strat, String country, int startYear,
+			int endYear) {
+		boolean success = false;
+		
+		try {
+			success = strat.doAnalysis(country, startYear, endYear, modelRef);
+		} finally {
+			if (!success || Thread.currentThread().isInterrupted()) {
+				modelRef.abandonData();
+			}
+		}
+		
+		return success;
+	}
 	
+	private
 	/**
 	 * A reference to the user parameters needed to run the analysis.
 	 */
-	static UserParameters parameters;
+	final UserParameters parameters;
 	
 	/**
 	 * A reference to the model used to store the computed data.
 	 */
-	static Model modelRef;
+	final Model modelRef;
 	
 	/**
 	 * A reference to the analysis map for deciding the analysis type.
 	 */
-	static AnalysisMap analysisMap;
+	final AnalysisMap analysisMap;
+	
+	/**
+	 * A reference to the thread used for running the analyses in the
+	 * background.
+	 */
+	ExecutorService analysisPool;
 }
@@ -50,7 +50,7 @@ public class CountryMap {
 	 * A mapping of all country names to a country code for the main
 	 * UI to use for invoking the appropriate analysis.
 	 */
-	static HashMap<String, String> map;
+	final HashMap<String, String> map;
 	
 	/**
 	 * A reference to the country list database file name.
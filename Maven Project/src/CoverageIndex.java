@@ -0,0 +1,302 @@
+import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is used to keep track of which years hold a value for each
+ * country and indicator, from the data already stored or fetched, so that a
+ * request can be checked for data before it is made. Only the years that
+ * were retrieved are known; any other year is assumed to possibly hold data,
+ * as is every year of a record older than its time to live.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see WorldBankInterface ProxyDatabase
+ */
+public class CoverageIndex {
+	/**
+	 * This function is used to retrieve the unique instance of this object.
+	 * The uniqueness is for the purposes of implementing a singleton. The
+	 * first call starts learning what is held in the local store and the
+	 * imported panel on a thread of its own, so that it never holds up the
+	 * caller; until then, fewer years are known.
+	 *
+	 * @return A unique instance of the object.
+	 */
+	public static synchronized CoverageIndex getInstance() {
+		if (instance == null) {
+			CoverageIndex index = new CoverageIndex(
+					IndicatorStore.getTimeToLive());
+			Thread loader = new Thread(() -> index.load(
+					ColumnarStore.openDefault(),
+					new IndicatorStore(IndicatorStore.getDefaultDirectory())),
+					"coverage-index");
+			loader.setDaemon(true);
+			loader.start();
+			instance = index;
+		}
+		
+		return instance;
+	}
+	
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param givenTimeToLive The time a record stays valid, in milliseconds.
+	 */
+	public CoverageIndex(long givenTimeToLive) {
+		coverage = new ConcurrentHashMap<String, Coverage>();
+		timeToLive = givenTimeToLive;
+	}
+	
+	/**
+	 * This function is used to take in everything held by a local store, and
+	 * to learn the coverage of any pair not yet known from an imported panel
+	 * the first time it is asked for.
+	 *
+	 * @param givenBulkStore The panel of data imported in bulk, or null.
+	 * @param givenStore The store of the data series kept on the local disk.
+	 */
+	public void load(ColumnarStore givenBulkStore, IndicatorStore givenStore) {
+		bulkStore = givenBulkStore;
+		givenStore.forEach(this::record);
+	}
+	
+	/**
+	 * This function is used to take in the years covered by a record,
+	 * replacing what was known for its country and indicator unless that is
+	 * more recent.
+	 *
+	 * @param givenRecord The record retrieved.
+	 */
+	public void record(IndicatorRecord givenRecord) {
+		if (givenRecord.isExpired(timeToLive)) { return; }
+		
+		record(givenRecord.getCountry(), givenRecord.getIndicator(),
+				givenRecord.getStartYear(), givenRecord.getEndYear(),
+				givenRecord.getData(), givenRecord.getFetchedAt(),
+				givenRecord.getFetchedAt() + timeToLive);
+	}
+	
+	/**
+	 * This function is used to take in the years covered by a data series,
+	 * replacing what was known for its country and indicator unless that is
+	 * more recent.
+	 *
+	 * @param country The ISO3 code of the country.
+	 * @param indicator The World-Bank reference title of the data.
+	 * @param startYear The first year retrieved.
+	 * @param endYear The last year retrieved.
+	 * @param data The data series retrieved for the years.
+	 * @param fetchedAt The time the data series was retrieved.
+	 * @param expiresAt The time the data series stops being valid.
+	 */
+	private void record(String country, String indicator, int startYear,
+			int endYear, SeriesBuffer data, long fetchedAt, long expiresAt) {
+		if (startYear > endYear) { return; }
+		
+		BitSet valued = new BitSet(endYear - startYear + 1);
+		
+		for (int i = 0; i < data.size(); i++) {
+			int year = data.getYear(i);
+			
+			if (data.isPresent(i) && year >= startYear && year <= endYear) {
+				valued.set(year - startYear);
+			}
+		}
+		
+		coverage.merge(makeKey(country, indicator),
+				new Coverage(startYear, endYear, valued, fetchedAt, expiresAt),
+				(known, given) -> given.fetchedAt >= known.fetchedAt
+						? given : known);
+	}
+	
+	/**
+	 * This function is used to find the part of a range of years that may
+	 * hold data for a country and indicator, leaving out the years at either
+	 * end that are known to hold none.
+	 *
+	 * @param country The ISO3 code of the country.
+	 * @param indicator The World-Bank reference title of the data.
+	 * @param startYear The first year of the range.
+	 * @param endYear The last year of the range.
+	 * @return The first and last year that may hold data, or null if the
+	 * range is known to hold none.
+	 */
+	public int[] findCoveredRange(String country, String indicator,
+			int startYear, int endYear) {
+		String key = makeKey(country, indicator);
+		Coverage known = coverage.get(key);
+		
+		// Forget what was learnt from a record that is no longer valid.
+		if (known != null && System.currentTimeMillis() > known.expiresAt) {
+			coverage.remove(key, known);
+			known = null;
+		}
+		
+		// Take in the whole panel of the pair the first time it is asked for.
+		// The panel never expires, but gives way to anything fetched since.
+		ColumnarStore bulk = bulkStore;
+		
+		if (known == null && bulk != null) {
+			SeriesBuffer data = bulk.read(country, indicator,
+					bulk.getFirstYear(), bulk.getLastYear());
+			
+			if (data != null) {
+				record(country, indicator, bulk.getFirstYear(),
+						bulk.getLastYear(), data, 0, Long.MAX_VALUE);
+				known = coverage.get(key);
+			}
+		}
+		
+		if (known == null) { return new int[] {startYear, endYear}; }
+		
+		// Years before or after the known ones may hold anything.
+		int first = startYear < known.startYear ? startYear
+				: known.nextValued(startYear, endYear);
+		int last = endYear > known.endYear ? endYear
+				: known.previousValued(endYear, startYear);
+		
+		if (first < 0) {
+			first = endYear > known.endYear
+					? Math.max(startYear, known.endYear + 1) : -1;
+		}
+		
+		if (last < 0) {
+			last = startYear < known.startYear
+					? Math.min(endYear, known.startYear - 1) : -1;
+		}
+		
+		if (first < 0 || last < 0) { return null; }
+		
+		return new int[] {first, last};
+	}
+	
+	/**
+	 * This function is used to retrieve the number of country and indicator
+	 * pairs whose coverage is known.
+	 *
+	 * @return The number of pairs.
+	 */
+	public int size() {
+		return coverage.size();
+	}
+	
+	/**
+	 * This function is used to build the key of a country and indicator.
+	 *
+	 * @param country The ISO3 code of the country.
+	 * @param indicator The World-Bank reference title of the data.
+	 * @return The key of the pair.
+	 */
+	private static String makeKey(String country, String indicator) {
+		return country + "/" + indicator;
+	}
+	
+	/**
+	 * This class is used to hold the years known for one country and
+	 * indicator, and which of them hold a value.
+	 */
+	private static final class Coverage {
+		/**
+		 * Constructor function for initializing an instance of this object.
+		 *
+		 * @param givenStartYear The first year known.
+		 * @param givenEndYear The last year known.
+		 * @param givenValued The years holding a value, from the first one.
+		 * @param givenFetchedAt The time the years were retrieved.
+		 * @param givenExpiresAt The time the years stop being valid.
+		 */
+		Coverage(int givenStartYear, int givenEndYear, BitSet givenValued,
+				long givenFetchedAt, long givenExpiresAt) {
+			startYear = givenStartYear;
+			endYear = givenEndYear;
+			valued = givenValued;
+			fetchedAt = givenFetchedAt;
+			expiresAt = givenExpiresAt;
+		}
+		
+		/**
+		 * This function is used to find the first known year holding a value
+		 * from a year on.
+		 *
+		 * @param from The year to look from.
+		 * @param to The last year to look at.
+		 * @return The year found, or -1 if there is none.
+		 */
+		int nextValued(int from, int to) {
+			int index = valued.nextSetBit(Math.max(from - startYear, 0));
+			
+			if (index < 0 || startYear + index > Math.min(to, endYear)) {
+				return -1;
+			}
+			
+			return startYear + index;
+		}
+		
+		/**
+		 * This function is used to find the last known year holding a value
+		 * up to a year.
+		 *
+		 * @param from The year to look back from.
+		 * @param to The first year to look at.
+		 * @return The year found, or -1 if there is none.
+		 */
+		int previousValued(int from, int to) {
+			if (from < startYear) { return -1; }
+			
+			int index = valued.previousSetBit(Math.min(from, endYear) - startYear);
+			
+			if (index < 0 || startYear + index < Math.max(to, startYear)) {
+				return -1;
+			}
+			
+			return startYear + index;
+		}
+		
+		/**
+		 * Reference to the first year known.
+		 */
+		final int startYear;
+		
+		/**
+		 * Reference to the last year known.
+		 */
+		final int endYear;
+		
+		/**
+		 * Reference to the years holding a value, from the first one.
+		 */
+		final BitSet valued;
+		
+		/**
+		 * Reference to the time the years were retrieved.
+		 */
+		final long fetchedAt;
+		
+		/**
+		 * Reference to the time the years stop being valid.
+		 */
+		final long expiresAt;
+	}
+	
+	private
+	/**
+	 * Reference to the unique instance of the coverage index.
+	 */
+	static CoverageIndex instance;
+	
+	/**
+	 * Reference to the years known for each country and indicator.
+	 */
+	final ConcurrentHashMap<String, Coverage> coverage;
+	
+	/**
+	 * Reference to the time a record stays valid, in milliseconds.
+	 */
+	final long timeToLive;
+	
+	/**
+	 * Reference to the panel of data imported in bulk, or null if none was.
+	 */
+	volatile ColumnarStore bulkStore;
+}
@@ -0,0 +1,371 @@
+import java.nio.ByteBuffer;
+
+/**
+ * This class is used to give random access to a whole panel of data held off
+ * the heap, as a cube of values indexed by country, indicator and year. The
+ * values are kept as floats or doubles with NaN marking the years without a
+ * value, laid out as one column per indicator made of a run of years per
+ * country. Slices of the cube are views reading the values in place, so
+ * taking one copies nothing.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see ColumnarStore
+ */
+public class DataCube {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param givenValues The buffer holding the values.
+	 * @param givenValuesAt The offset of the first value, in bytes.
+	 * @param givenCountryCount The number of countries.
+	 * @param givenIndicatorCount The number of indicators.
+	 * @param givenFirstYear The first year of every run of values.
+	 * @param givenYearCount The number of years in every run of values.
+	 * @param givenValueBytes The size of each value, 4 for floats or 8 for
+	 * doubles.
+	 */
+	DataCube(ByteBuffer givenValues, int givenValuesAt, int givenCountryCount,
+			int givenIndicatorCount, int givenFirstYear, int givenYearCount,
+			int givenValueBytes) {
+		values = givenValues;
+		valuesAt = givenValuesAt;
+		countryCount = givenCountryCount;
+		indicatorCount = givenIndicatorCount;
+		firstYear = givenFirstYear;
+		yearCount = givenYearCount;
+		valueBytes = givenValueBytes;
+	}
+	
+	/**
+	 * This function is used to retrieve a value of the cube.
+	 *
+	 * @param countryId The position of the country.
+	 * @param indicatorId The position of the indicator.
+	 * @param yearOffset The number of years after the first one.
+	 * @return The value, NaN if it is missing.
+	 */
+	public double get(int countryId, int indicatorId, int yearOffset) {
+		return read(getOffset(countryId, indicatorId, yearOffset));
+	}
+	
+	/**
+	 * This function is used to check if a value of the cube is available.
+	 *
+	 * @param countryId The position of the country.
+	 * @param indicatorId The position of the indicator.
+	 * @param yearOffset The number of years after the first one.
+	 * @return True if the value is available, false otherwise.
+	 */
+	public boolean isPresent(int countryId, int indicatorId, int yearOffset) {
+		return !Double.isNaN(get(countryId, indicatorId, yearOffset));
+	}
+	
+	/**
+	 * This function is used to view every year of one country and indicator.
+	 *
+	 * @param countryId The position of the country.
+	 * @param indicatorId The position of the indicator.
+	 * @return The years of the pair, from the first one.
+	 */
+	public Slice getSeries(int countryId, int indicatorId) {
+		return new Slice(getOffset(countryId, indicatorId, 0), valueBytes,
+				yearCount);
+	}
+	
+	/**
+	 * This function is used to view every indicator and year of one country.
+	 *
+	 * @param countryId The position of the country.
+	 * @return A matrix with a row per indicator and a column per year.
+	 */
+	public Matrix getCountry(int countryId) {
+		return new Matrix(getOffset(countryId, 0, 0), indicatorCount,
+				countryCount * yearCount * valueBytes, yearCount, valueBytes);
+	}
+	
+	/**
+	 * This function is used to view one year of an indicator across every
+	 * country.
+	 *
+	 * @param indicatorId The position of the indicator.
+	 * @param yearOffset The number of years after the first one.
+	 * @return The values of the year, a value per country.
+	 */
+	public Slice getYear(int indicatorId, int yearOffset) {
+		return new Slice(getOffset(0, indicatorId, yearOffset),
+				yearCount * valueBytes, countryCount);
+	}
+	
+	/**
+	 * This function is used to view every country and year of one indicator.
+	 *
+	 * @param indicatorId The position of the indicator.
+	 * @return A matrix with a row per country and a column per year.
+	 */
+	public Matrix getIndicator(int indicatorId) {
+		return new Matrix(getOffset(0, indicatorId, 0), countryCount,
+				yearCount * valueBytes, yearCount, valueBytes);
+	}
+	
+	/**
+	 * This function is used to retrieve the number of countries.
+	 *
+	 * @return The number of countries.
+	 */
+	public int getCountryCount() { return countryCount; }
+	
+	/**
+	 * This function is used to retrieve the number of indicators.
+	 *
+	 * @return The number of indicators.
+	 */
+	public int getIndicatorCount() { return indicatorCount; }
+	
+	/**
+	 * This function is used to retrieve the first year of the cube.
+	 *
+	 * @return The first year.
+	 */
+	public int getFirstYear() { return firstYear; }
+	
+	/**
+	 * This function is used to retrieve the number of years of the cube.
+	 *
+	 * @return The number of years.
+	 */
+	public int getYearCount() { return yearCount; }
+	
+	/**
+	 * This function is used to find where a value is held.
+	 *
+	 * @param countryId The position of the country.
+	 * @param indicatorId The position of the indicator.
+	 * @param yearOffset The number of years after the first one.
+	 * @return The offset of the value, in bytes.
+	 */
+	private int getOffset(int countryId, int indicatorId, int yearOffset) {
+		if (countryId < 0 || countryId >= countryCount || indicatorId < 0
+				|| indicatorId >= indicatorCount || yearOffset < 0
+				|| yearOffset >= yearCount) {
+			throw new IndexOutOfBoundsException("No value at country "
+					+ countryId + ", indicator " + indicatorId + ", year "
+					+ (firstYear + yearOffset));
+		}
+		
+		return valuesAt + ((indicatorId * countryCount + countryId) * yearCount
+				+ yearOffset) * valueBytes;
+	}
+	
+	/**
+	 * This function is used to read the value held at an offset.
+	 *
+	 * @param offset The offset of the value, in bytes.
+	 * @return The value, NaN if it is missing.
+	 */
+	private double read(int offset) {
+		return valueBytes == Float.BYTES ? values.getFloat(offset)
+				: values.getDouble(offset);
+	}
+	
+	/**
+	 * This class is used to view a line of values of the cube in place.
+	 */
+	public final class Slice {
+		/**
+		 * Constructor function for initializing an instance of this object.
+		 *
+		 * @param givenStart The offset of the first value, in bytes.
+		 * @param givenStride The distance between two values, in bytes.
+		 * @param givenSize The number of values.
+		 */
+		Slice(int givenStart, int givenStride, int givenSize) {
+			start = givenStart;
+			stride = givenStride;
+			size = givenSize;
+		}
+		
+		/**
+		 * This function is used to retrieve the number of values viewed.
+		 *
+		 * @return The number of values.
+		 */
+		public int size() { return size; }
+		
+		/**
+		 * This function is used to retrieve a value.
+		 *
+		 * @param index The position of the value.
+		 * @return The value, NaN if it is missing.
+		 */
+		public double getValue(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("No value at " + index);
+			}
+			
+			return read(start + index * stride);
+		}
+		
+		/**
+		 * This function is used to check if a value is available.
+		 *
+		 * @param index The position of the value.
+		 * @return True if the value is available, false otherwise.
+		 */
+		public boolean isPresent(int index) {
+			return !Double.isNaN(getValue(index));
+		}
+		
+		/**
+		 * Reference to the offset of the first value, in bytes.
+		 */
+		final int start;
+		
+		/**
+		 * Reference to the distance between two values, in bytes.
+		 */
+		final int stride;
+		
+		/**
+		 * Reference to the number of values.
+		 */
+		final int size;
+	}
+	
+	/**
+	 * This class is used to view a plane of values of the cube in place.
+	 */
+	public final class Matrix {
+		/**
+		 * Constructor function for initializing an instance of this object.
+		 *
+		 * @param givenStart The offset of the first value, in bytes.
+		 * @param givenRows The number of rows.
+		 * @param givenRowStride The distance between two rows, in bytes.
+		 * @param givenColumns The number of columns.
+		 * @param givenColumnStride The distance between two columns, in bytes.
+		 */
+		Matrix(int givenStart, int givenRows, int givenRowStride,
+				int givenColumns, int givenColumnStride) {
+			start = givenStart;
+			rows = givenRows;
+			rowStride = givenRowStride;
+			columns = givenColumns;
+			columnStride = givenColumnStride;
+		}
+		
+		/**
+		 * This function is used to retrieve the number of rows.
+		 *
+		 * @return The number of rows.
+		 */
+		public int getRows() { return rows; }
+		
+		/**
+		 * This function is used to retrieve the number of columns.
+		 *
+		 * @return The number of columns.
+		 */
+		public int getColumns() { return columns; }
+		
+		/**
+		 * This function is used to retrieve a value.
+		 *
+		 * @param row The position of the row.
+		 * @param column The position of the column.
+		 * @return The value, NaN if it is missing.
+		 */
+		public double getValue(int row, int column) {
+			return getRow(row).getValue(column);
+		}
+		
+		/**
+		 * This function is used to view a row.
+		 *
+		 * @param row The position of the row.
+		 * @return The values of the row.
+		 */
+		public Slice getRow(int row) {
+			if (row < 0 || row >= rows) {
+				throw new IndexOutOfBoundsException("No row at " + row);
+			}
+			
+			return new Slice(start + row * rowStride, columnStride, columns);
+		}
+		
+		/**
+		 * This function is used to view a column.
+		 *
+		 * @param column The position of the column.
+		 * @return The values of the column.
+		 */
+		public Slice getColumn(int column) {
+			if (column < 0 || column >= columns) {
+				throw new IndexOutOfBoundsException("No column at " + column);
+			}
+			
+			return new Slice(start + column * columnStride, rowStride, rows);
+		}
+		
+		/**
+		 * Reference to the offset of the first value, in bytes.
+		 */
+		final int start;
+		
+		/**
+		 * Reference to the number of rows.
+		 */
+		final int rows;
+		
+		/**
+		 * Reference to the distance between two rows, in bytes.
+		 */
+		final int rowStride;
+		
+		/**
+		 * Reference to the number of columns.
+		 */
+		final int columns;
+		
+		/**
+		 * Reference to the distance between two columns, in bytes.
+		 */
+		final int columnStride;
+	}
+	
+	private
+	/**
+	 * Reference to the buffer holding the values.
+	 */
+	final ByteBuffer values;
+	
+	/**
+	 * Reference to the offset of the first value, in bytes.
+	 */
+	final int valuesAt;
+	
+	/**
+	 * Reference to the number of countries.
+	 */
+	final int countryCount;
+	
+	/**
+	 * Reference to the number of indicators.
+	 */
+	final int indicatorCount;
+	
+	/**
+	 * Reference to the first year of every run of values.
+	 */
+	final int firstYear;
+	
+	/**
+	 * Reference to the number of years in every run of values.
+	 */
+	final int yearCount;
+	
+	/**
+	 * Reference to the size of each value, in bytes.
+	 */
+	final int valueBytes;
+}
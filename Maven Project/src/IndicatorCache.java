@@ -0,0 +1,99 @@
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * This class is used to keep the most recently used data series from the
+ * World-Bank in memory, so that repeated requests for the same country and
+ * indicator do not go back to the network. The cache is bounded by the
+ * approximate memory held by the series, evicting the least recently used.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see WorldBankInterface IndicatorRecord
+ */
+public class IndicatorCache {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param givenMaxWeight The approximate number of bytes the cache may
+	 * hold before evicting records.
+	 */
+	public IndicatorCache(long givenMaxWeight) {
+		maxWeight = givenMaxWeight;
+		totalWeight = 0;
+		
+		// Iterate in access order so the eldest entry is least recently used.
+		records = new LinkedHashMap<String, IndicatorRecord>(16, 0.75f, true);
+	}
+	
+	/**
+	 * This function is used to retrieve the record held for a country and
+	 * indicator, marking it as recently used.
+	 *
+	 * @param country The country of the data series.
+	 * @param indicator The World-Bank reference title of the data.
+	 * @return The cached record, null if there is none.
+	 */
+	public synchronized IndicatorRecord get(String country, String indicator) {
+		return records.get(makeKey(country, indicator));
+	}
+	
+	/**
+	 * This function is used to store a record, replacing any record held for
+	 * the same country and indicator.
+	 *
+	 * @param givenRecord The record to store.
+	 */
+	public synchronized void put(IndicatorRecord givenRecord) {
+		var replaced = records.put(makeKey(givenRecord.getCountry(),
+				givenRecord.getIndicator()), givenRecord);
+		
+		totalWeight += givenRecord.getData().getWeight();
+		if (replaced != null) {
+			totalWeight -= replaced.getData().getWeight();
+		}
+		
+		// Evict the least recently used records until back within bounds.
+		Iterator<IndicatorRecord> eldest = records.values().iterator();
+		while (totalWeight > maxWeight && records.size() > 1) {
+			totalWeight -= eldest.next().getData().getWeight();
+			eldest.remove();
+		}
+	}
+	
+	/**
+	 * This function is used to retrieve the memory held by the cache.
+	 *
+	 * @return The approximate size of all cached records in bytes.
+	 */
+	public synchronized long getWeight() {
+		return totalWeight;
+	}
+	
+	/**
+	 * This function is used to build the key identifying a record.
+	 *
+	 * @param country The country of the data series.
+	 * @param indicator The World-Bank reference title of the data.
+	 * @return The key of the record.
+	 */
+	private static String makeKey(String country, String indicator) {
+		return country + "/" + indicator;
+	}
+	
+	private
+	/**
+	 * Reference to the cached records, ordered from least recently used.
+	 */
+	LinkedHashMap<String, IndicatorRecord> records;
+	
+	/**
+	 * Reference to the approximate number of bytes held by the records.
+	 */
+	long totalWeight;
+	
+	/**
+	 * Reference to the approximate number of bytes the cache may hold.
+	 */
+	long maxWeight;
+}
@@ -0,0 +1,142 @@
+/**
+ * This class defines a record of a data series retrieved from the World-Bank
+ * for one country and indicator, along with the range of years it covers.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see IndicatorCache SeriesBuffer
+ */
+public class IndicatorRecord {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param givenCountry The country the data series belongs to.
+	 * @param givenIndicator The World-Bank reference title of the data.
+	 * @param givenStartYear The first year covered by the data series.
+	 * @param givenEndYear The last year covered by the data series.
+	 * @param givenData The data series, which must not be modified after.
+	 */
+	public IndicatorRecord(String givenCountry, String givenIndicator,
+			int givenStartYear, int givenEndYear, SeriesBuffer givenData) {
+		this(givenCountry, givenIndicator, givenStartYear, givenEndYear,
+				givenData, System.currentTimeMillis());
+	}
+	
+	/**
+	 * Constructor function for initializing an instance of this object that
+	 * was fetched at a known time.
+	 *
+	 * @param givenCountry The country the data series belongs to.
+	 * @param givenIndicator The World-Bank reference title of the data.
+	 * @param givenStartYear The first year covered by the data series.
+	 * @param givenEndYear The last year covered by the data series.
+	 * @param givenData The data series, which must not be modified after.
+	 * @param givenFetchedAt The time the oldest part of the data series was
+	 * fetched, in milliseconds since the epoch.
+	 */
+	public IndicatorRecord(String givenCountry, String givenIndicator,
+			int givenStartYear, int givenEndYear, SeriesBuffer givenData,
+			long givenFetchedAt) {
+		country = givenCountry;
+		indicator = givenIndicator;
+		startYear = givenStartYear;
+		endYear = givenEndYear;
+		data = givenData;
+		fetchedAt = givenFetchedAt;
+	}
+	
+	/**
+	 * This function is used to check if the record holds every year of a
+	 * range.
+	 *
+	 * @param givenStartYear The first year of the range.
+	 * @param givenEndYear The last year of the range.
+	 * @return True if the range is covered by the record, false otherwise.
+	 */
+	public boolean covers(int givenStartYear, int givenEndYear) {
+		return givenStartYear >= startYear && givenEndYear <= endYear;
+	}
+	
+	/**
+	 * This function is used to check if the record is older than allowed.
+	 *
+	 * @param timeToLive The time a record stays valid, in milliseconds.
+	 * @return True if the record has expired, false otherwise.
+	 */
+	public boolean isExpired(long timeToLive) {
+		return System.currentTimeMillis() - fetchedAt > timeToLive;
+	}
+	
+	/**
+	 * This function is used to retrieve the country of the record.
+	 *
+	 * @return The country the data series belongs to.
+	 */
+	public String getCountry() { return country; }
+	
+	/**
+	 * This function is used to retrieve the indicator of the record.
+	 *
+	 * @return The World-Bank reference title of the data.
+	 */
+	public String getIndicator() { return indicator; }
+	
+	/**
+	 * This function is used to retrieve the first year of the record.
+	 *
+	 * @return The first year covered by the data series.
+	 */
+	public int getStartYear() { return startYear; }
+	
+	/**
+	 * This function is used to retrieve the last year of the record.
+	 *
+	 * @return The last year covered by the data series.
+	 */
+	public int getEndYear() { return endYear; }
+	
+	/**
+	 * This function is used to retrieve the data series of the record.
+	 *
+	 * @return The data series, which must not be modified.
+	 */
+	public SeriesBuffer getData() { return data; }
+	
+	/**
+	 * This function is used to retrieve the time the record was fetched.
+	 *
+	 * @return The time in milliseconds since the epoch.
+	 */
+	public long getFetchedAt() { return fetchedAt; }
+	
+	private
+	/**
+	 * Reference to the country the data series belongs to.
+	 */
+	final String country;
+	
+	/**
+	 * Reference to the World-Bank reference title of the data.
+	 */
+	final String indicator;
+	
+	/**
+	 * Reference to the first year covered by the data series.
+	 */
+	final int startYear;
+	
+	/**
+	 * Reference to the last year covered by the data series.
+	 */
+	final int endYear;
+	
+	/**
+	 * Reference to the data series of the record.
+	 */
+	final SeriesBuffer data;
+	
+	/**
+	 * Reference to the time the oldest part of the data series was fetched.
+	 */
+	final long fetchedAt;
+}
@@ -0,0 +1,276 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * This class is used to persist the data series retrieved from the World-Bank
+ * on the local disk, so that they survive a restart of the application. Each
+ * country and indicator is kept in its own binary file holding the year and
+ * value columns along with the time they were fetched.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see WorldBankInterface IndicatorRecord
+ */
+public class IndicatorStore {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param givenDirectory The directory holding the stored files.
+	 */
+	public IndicatorStore(Path givenDirectory) {
+		directory = givenDirectory;
+	}
+	
+	/**
+	 * This function is used to load the stored record for a country and
+	 * indicator by reading its file in a single pass. The file is read rather
+	 * than mapped, as a mapped file can't be replaced on every platform until
+	 * the mapping is collected.
+	 *
+	 * @param country The country of the data series.
+	 * @param indicator The World-Bank reference title of the data.
+	 * @return The stored record, null if there is none or it is unreadable.
+	 */
+	public IndicatorRecord load(String country, String indicator) {
+		Path file = makePath(country, indicator);
+		
+		try (FileChannel channel = FileChannel.open(file,
+				StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				System.err.println("Ignoring unreadable store file " + file);
+				return null;
+			}
+			
+			ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+			
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) < 0) { break; }
+			}
+			
+			buffer.flip();
+			
+			// Reject files that were not written by this store.
+			if (buffer.remaining() < headerSize || buffer.getInt() != magic
+					|| buffer.getInt() != formatVersion) {
+				System.err.println("Ignoring unreadable store file " + file);
+				return null;
+			}
+			
+			long fetchedAt = buffer.getLong();
+			int startYear = buffer.getInt();
+			int endYear = buffer.getInt();
+			int count = buffer.getInt();
+			
+			if (buffer.remaining() < (long) count * bytesPerPoint) {
+				System.err.println("Ignoring truncated store file " + file);
+				return null;
+			}
+			
+			// Read the year, value and availability columns in turn.
+			int yearsAt = buffer.position();
+			int valuesAt = yearsAt + count * Integer.BYTES;
+			int presentAt = valuesAt + count * Double.BYTES;
+			SeriesBuffer data = new SeriesBuffer(count);
+			
+			for (int i = 0; i < count; i++) {
+				int year = buffer.getInt(yearsAt + i * Integer.BYTES);
+				
+				if (buffer.get(presentAt + i) != 0) {
+					data.add(year, buffer.getDouble(valuesAt + i * Double.BYTES));
+				} else {
+					data.addMissing(year);
+				}
+			}
+			
+			return new IndicatorRecord(country, indicator, startYear, endYear,
+					data, fetchedAt);
+		} catch (NoSuchFileException err) {
+			return null;
+		} catch (IOException err) {
+			err.printStackTrace();
+			return null;
+		}
+	}
+	
+	/**
+	 * This function is used to store a record, replacing any record held for
+	 * the same country and indicator. The file is written aside and then
+	 * moved into place so that readers never see a partial file.
+	 *
+	 * @param givenRecord The record to store.
+	 */
+	public void save(IndicatorRecord givenRecord) {
+		SeriesBuffer data = givenRecord.getData();
+		int count = data.size();
+		ByteBuffer buffer = ByteBuffer.allocate(headerSize
+				+ count * bytesPerPoint);
+		
+		// Write the header followed by the year, value and availability
+		// columns.
+		buffer.putInt(magic);
+		buffer.putInt(formatVersion);
+		buffer.putLong(givenRecord.getFetchedAt());
+		buffer.putInt(givenRecord.getStartYear());
+		buffer.putInt(givenRecord.getEndYear());
+		buffer.putInt(count);
+		
+		for (int i = 0; i < count; i++) {
+			buffer.putInt(data.getYear(i));
+		}
+		
+		for (int i = 0; i < count; i++) {
+			buffer.putDouble(data.getValue(i));
+		}
+		
+		for (int i = 0; i < count; i++) {
+			buffer.put((byte) (data.isPresent(i) ? 1 : 0));
+		}
+		
+		buffer.flip();
+		
+		Path temporary = null;
+		
+		try {
+			Files.createDirectories(directory);
+			temporary = Files.createTempFile(directory, "record", ".tmp");
+			
+			try (FileChannel channel = FileChannel.open(temporary,
+					StandardOpenOption.WRITE)) {
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+			}
+			
+			Files.move(temporary, makePath(givenRecord.getCountry(),
+					givenRecord.getIndicator()),
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException err) {
+			err.printStackTrace();
+		} finally {
+			// Drop the file written aside if it was never moved into place.
+			if (temporary != null) {
+				try {
+					Files.deleteIfExists(temporary);
+				} catch (IOException err) {
+					err.printStackTrace();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * This function is used to go over every record held by the store. The
+	 * country and indicator of each one are read back from its file name.
+	 *
+	 * @param action The action taken on each record.
+	 */
+	public void forEach(Consumer<IndicatorRecord> action) {
+		if (!Files.isDirectory(directory)) { return; }
+		
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+				"*" + fileExtension)) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				int split = name.indexOf('_');
+				
+				if (split < 0) { continue; }
+				
+				var record = load(name.substring(0, split), name.substring(
+						split + 1, name.length() - fileExtension.length()));
+				
+				if (record != null) { action.accept(record); }
+			}
+		} catch (IOException err) {
+			err.printStackTrace();
+		}
+	}
+	
+	/**
+	 * This function is used to retrieve the default location of the store,
+	 * which may be changed through the worldbank.store.dir property.
+	 *
+	 * @return The directory holding the stored files.
+	 */
+	public static Path getDefaultDirectory() {
+		return Paths.get(System.getProperty("worldbank.store.dir",
+				defaultDirectory));
+	}
+	
+	/**
+	 * This function is used to retrieve the time a stored record stays valid,
+	 * which may be changed through the worldbank.store.ttl.hours property.
+	 *
+	 * @return The time to live of a record, in milliseconds.
+	 */
+	public static long getTimeToLive() {
+		return Long.getLong("worldbank.store.ttl.hours", defaultTimeToLiveHours)
+				* 60 * 60 * 1000;
+	}
+	
+	/**
+	 * This function is used to build the path of the file for a country and
+	 * indicator.
+	 *
+	 * @param country The country of the data series.
+	 * @param indicator The World-Bank reference title of the data.
+	 * @return The path of the stored file.
+	 */
+	private Path makePath(String country, String indicator) {
+		String name = (country + "_" + indicator)
+				.replaceAll("[^A-Za-z0-9._-]", "_");
+		return directory.resolve(name + fileExtension);
+	}
+	
+	private
+	/**
+	 * Reference to the directory holding the stored files.
+	 */
+	Path directory;
+	
+	/**
+	 * Reference to the default directory name of the store.
+	 */
+	static final String defaultDirectory = "indicator_store";
+	
+	/**
+	 * Reference to the number of hours a stored record stays valid when the
+	 * worldbank.store.ttl.hours property is not given.
+	 */
+	static final long defaultTimeToLiveHours = 7 * 24;
+	
+	/**
+	 * Reference to the extension of every stored file.
+	 */
+	static final String fileExtension = ".bin";
+	
+	/**
+	 * Reference to the value marking the start of every stored file.
+	 */
+	static final int magic = 0x57424953;
+	
+	/**
+	 * Reference to the version of the stored file layout.
+	 */
+	static final int formatVersion = 1;
+	
+	/**
+	 * Reference to the number of bytes in the header of a stored file.
+	 */
+	static final int headerSize = 4 * Integer.BYTES + Long.BYTES
+			+ Integer.BYTES;
+	
+	/**
+	 * Reference to the number of bytes stored per data point.
+	 */
+	static final int bytesPerPoint = Integer.BYTES + Double.BYTES + 1;
+}
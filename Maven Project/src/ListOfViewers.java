@@ -1,5 +1,8 @@
-import java.util.Vector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 
 /**
  * This class is used to create a list of viewers being chosen for the analysis.
@@ -17,7 +20,7 @@ public class ListOfViewers {
 	 * @param givenParam The user parameters being modified.
 	 * @return A unique instance of the object.
 	 */
-	public static ListOfViewers getInstance(Model givenModel,
+	public static synchronized ListOfViewers getInstance(Model givenModel,
 			UserParameters givenParam) {
 		if (instance == null) {
 			instance = new ListOfViewers(givenModel,givenParam);
@@ -35,7 +38,8 @@ public class ListOfViewers {
 	private ListOfViewers(Model givenModel, UserParameters givenParam) {
 		parametersRef = givenParam;
 		modelRef = givenModel;
-		internalList = new Vector<AbstractViewer>();
+		internalList = new CopyOnWriteArrayList<AbstractViewer>();
+		displayedViewers = List.of();
 		viewerMap = new ViewerMap(modelRef,parametersRef.getAnalysisType());
 	}
 	
@@ -49,19 +53,16 @@ public class ListOfViewers {
 	 */
 	public boolean addViewerToList(String givenGraphType) {				
 		// Check to see if viewer has already been added to list.
-		if (internalList != null) {
-			for (int i = 0; i < internalList.size(); i++) {
-				if (internalList.get(i).getGraphType().equals(givenGraphType)) {
-					return false;
-				}
+		for (AbstractViewer viewer : internalList) {
+			if (viewer.getGraphType().equals(givenGraphType)) {
+				return false;
 			}
 		}
 		
 		// Specified viewer does not exist, so add it.
-		var newViewer = ViewerMap.getViewer(givenGraphType);
+		var newViewer = viewerMap.getViewer(givenGraphType);
 		newViewer.setGraphType(givenGraphType);
-		internalList.add(newViewer);
-		return true;
+		return internalList.addIfAbsent(newViewer);
 	}
 	
 	/**
@@ -76,17 +77,9 @@ public class ListOfViewers {
 		// If the list is already empty then return false.
 		if (internalList.isEmpty()) { return false;	}
 		
-		// Check to see if viewer already exists.
-		for (int i = 0; i < internalList.size(); i++) {
-			if (internalList.get(i).getGraphType().equals(givenGraphType)) {
-				// Specified viewer exists, so remove it.
-				internalList.remove(i);
-				return true;
-			}
-		}
-		
-		// Specified viewer does not reside in list.
-		return false;
+		// Remove the specified viewer if it resides in the list.
+		return internalList.removeIf(
+				viewer -> viewer.getGraphType().equals(givenGraphType));
 	}
 	
 	/**
@@ -104,11 +97,37 @@ public class ListOfViewers {
 	 * updating all viewers in the list accordingly.
 	 */
 	public void updateAllViewers() {
-		for (int i = 0; i < internalList.size(); i++) {
-			internalList.get(i).update(parametersRef);
+		// Go over a snapshot of the list, as it may be changed by the UI
+		// while an analysis is storing its data.
+		for (AbstractViewer viewer : internalList) {
+			viewer.update(parametersRef);
 		}
 	}
 
+	/**
+	 * This function is used for updating and redisplaying all the viewers on
+	 * the UI thread, so that data arriving in the background is shown as
+	 * soon as it is available.
+	 */
+	public void refreshViewers() {
+		if (displayPanel == null) { return; }
+		
+		SwingUtilities.invokeLater(() -> {
+			updateAllViewers();
+			displayViewers(displayPanel);
+		});
+	}
+	
+	/**
+	 * This function is used for setting the UI panel on which the viewers
+	 * are refreshed as new data arrives.
+	 * 
+	 * @param givenPanel The UI panel for the viewers to be displayed on.
+	 */
+	public void setDisplayPanel(JPanel givenPanel) {
+		displayPanel = givenPanel;
+	}
+	
 	/**
 	 * This function is used for initializing the internal model reference
 	 * used for storing data.
@@ -129,31 +148,41 @@ public class ListOfViewers {
 	}
 
 	/**
-	 * This function is used for rendering and displaying all the viewers.
+	 * This function is used for rendering and displaying all the viewers. The
+	 * panel is only cleared when the viewers in the list have changed since it
+	 * was last laid out, otherwise each viewer updates its own chart in place.
 	 * 
 	 * @param givenPanel The UI panel for the viewers to be displayed on.
 	 */
 	public void displayViewers(JPanel givenPanel) {
-		for (int i = 0; i < internalList.size(); i++) {
-			internalList.get(i).display(givenPanel);
+		if (!internalList.equals(displayedViewers)) {
+			givenPanel.removeAll();
+			displayedViewers = new ArrayList<AbstractViewer>(internalList);
+		}
+		
+		for (AbstractViewer viewer : internalList) {
+			viewer.display(givenPanel);
 		}
+		
+		givenPanel.revalidate();
+		givenPanel.repaint();
 	}
 	
 	private
 	/**
 	 * Reference to the internal list of viewers.
 	 */
-	static Vector<AbstractViewer> internalList;
+	final CopyOnWriteArrayList<AbstractViewer> internalList;
 	
 	/**
 	 * Reference to the internal model used for storing data.
 	 */
-	static Model modelRef;
+	volatile Model modelRef;
 	
 	/**
 	 * Reference to the user parameters received from the UI.
 	 */
-	static UserParameters parametersRef;
+	volatile UserParameters parametersRef;
 	
 	/**
 	 * Reference to the unique instance of the list of viewers.
@@ -163,5 +192,15 @@ public class ListOfViewers {
 	/**
 	 * Reference to the viewer map for deciding the viewer type.
 	 */
-	static ViewerMap viewerMap;
+	final ViewerMap viewerMap;
+	
+	/**
+	 * Reference to the UI panel on which the viewers are refreshed.
+	 */
+	volatile JPanel displayPanel;
+	
+	/**
+	 * Reference to the viewers shown the last time the panel was laid out.
+	 */
+	List<AbstractViewer> displayedViewers;
 }
@@ -5,12 +5,15 @@ import java.awt.event.ActionListener;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.SwingUtilities;
 
 /**
  * This class is used to create and display the main UI for the application for
@@ -154,6 +157,9 @@ public class MainUI extends JFrame {
 	 */
 	private void buildAnalysisSelection() {
 		recalculate = new JButton("Recalculate");
+		progressBar = new JProgressBar();
+		progressBar.setIndeterminate(true);
+		progressBar.setVisible(false);
 		methodLabel = new JLabel("        Choose analysis method: ");
 		Vector<String> methodsNames = new Vector<String>();
 		
@@ -271,22 +277,70 @@ public class MainUI extends JFrame {
 		case INVALID_TIME_FORMAT:
 			displayError("Starting year is after the ending year!");
 			break;
+		case NO_DATA:
+			displayError("No data available for the selected years!");
+			break;
 		case SUCCESS:
+			// Only request the years that may hold data.
+			int[] availableYears = proxyDB.findAvailableYears(analysisType,
+					countryCode, startYear, endYear);
+			
+			if (availableYears == null) {
+				displayError("No data available for the selected years!");
+				break;
+			}
+			
 			// Set the new analysis user parameters accordingly.
 			currUserParameters.setAnalysisType(analysisType);
 			currUserParameters.setCountry(countryCode);
-			currUserParameters.setStartYear(startYear);
-			currUserParameters.setEndYear(endYear);
+			currUserParameters.setStartYear(availableYears[0]);
+			currUserParameters.setEndYear(availableYears[1]);
 			
-			// Perform analysis and update UI.
-			if (analysisContext.executeStrat()) {
-				displayPanel.removeAll();
-				listofViewers.displayViewers(displayPanel);
-				displayPanel.updateUI();
-			} else {
-				displayError("Insuffucient data for analysis! "
-						+ "Try different parameters.");
-			} break;
+			// Cancel any analysis still running in favour of the new one.
+			if (currentRun != null) { currentRun.cancel(true); }
+			
+			// Perform analysis in the background and update UI once done.
+			var run = analysisContext.executeStratAsync();
+			currentRun = run;
+			progressBar.setVisible(true);
+			run.whenComplete((success, err) -> SwingUtilities.invokeLater(
+					() -> analysisFinished(run, success, err)));
+			
+			// Show the years actually analysed when fewer than chosen.
+			if (availableYears[0] != startYear || availableYears[1] != endYear) {
+				fromTimeList.setSelectedItem("" + availableYears[0]);
+				toTimeList.setSelectedItem("" + availableYears[1]);
+				displayInfo("Only " + availableYears[0] + " to "
+						+ availableYears[1] + " may hold data, so the analysis"
+						+ " covers those years.");
+			}
+			break;
+		}		
+	}
+	
+	/**
+	 * This function is executed on the UI thread when an analysis running in
+	 * the background has finished.
+	 * 
+	 * @param run The analysis that has finished.
+	 * @param success True if the analysis was completed successfully.
+	 * @param err The error thrown by the analysis, null if there was none.
+	 */
+	private void analysisFinished(CompletableFuture<Boolean> run,
+			Boolean success, Throwable err) {
+		// Ignore any analysis that has since been replaced.
+		if (run != currentRun) { return; }
+		
+		currentRun = null;
+		progressBar.setVisible(false);
+		
+		// Update the UI with the new data.
+		if (err == null && success) {
+			listofViewers.displayViewers(displayPanel);
+		} else {
+			if (err != null) { err.printStackTrace(); }
+			displayError("Insuffucient data for analysis! "
+					+ "Try different parameters.");
 		}		
 	}
 
@@ -331,10 +385,12 @@ public class MainUI extends JFrame {
 		southPanel.add(methodLabel);
 		southPanel.add(methodsList);
 		southPanel.add(recalculate);
+		southPanel.add(progressBar);
 		
 		// Add the display panel for rendering the viewers on.
 		displayPanel = new JPanel();
 		displayPanel.setLayout(new GridLayout(2, 0));
+		listofViewers.setDisplayPanel(displayPanel);
 				
 		// Establish panels across the window.
 		getContentPane().add(northPanel, BorderLayout.NORTH);
@@ -398,6 +454,12 @@ public class MainUI extends JFrame {
 	 */
 	static ContextForAnalysis analysisContext;
 	
+	/**
+	 * Reference to the analysis currently running in the background, null
+	 * if there is none.
+	 */
+	static CompletableFuture<Boolean> currentRun;
+	
 	/**
 	 * Reference to the current analysis type selected on the UI.
 	 */
@@ -488,6 +550,11 @@ public class MainUI extends JFrame {
 	 */
 	static JButton recalculate;
 	
+	/**
+	 *  Reference to the progress bar shown while an analysis is running.
+	 */
+	static JProgressBar progressBar;
+	
 	/**
 	 *  Reference to the panel used for displaying all the viewers.
 	 */
@@ -501,6 +568,7 @@ public class MainUI extends JFrame {
 		INVALID_TIME_RANGE,
 		INVALID_COUNTRY,
 		UNEXPECTED_FORMAT,
-		INVALID_TIME_FORMAT
+		INVALID_TIME_FORMAT,
+		NO_DATA
 	}
 }
@@ -1,8 +1,14 @@
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.SwingUtilities;
 
 /**
  * This class is used to store all the processed data retrieved from the
- * World-Bank server and maintain the list of viewers accordingly.
+ * World-Bank server and maintain the list of viewers accordingly. The data is
+ * published as immutable snapshots, so that analyses and viewers may work on
+ * different threads.
  *
  * @author Matthew Bertuzzi.
  * @version	1.0.0
@@ -15,48 +21,160 @@ public class Model {
 	 * 
 	 * @return A unique instance of the object.
 	 */
-	public static Model getInstance() {
+	public static synchronized Model getInstance() {
 		if (instance == null) {
-			instance = new Model();
+			instance = new Model(false);
 		}
 		
 		return instance;
 	}
 	
+	/**
+	 * This function is used to create a model of its own, which is not shared
+	 * with the UI and has no viewers, for running analyses side by side. As
+	 * nobody watches it, data series stored one at a time are not published.
+	 * 
+	 * @return A new instance of the object.
+	 */
+	public static Model createDetached() {
+		return new Model(true);
+	}
+	
 	/**
 	 * Constructor function for initializing an instance of this object.
+	 * 
+	 * @param givenDetached True if the model is not shown by any viewer.
 	 */
-	private Model() {
-		modelState = new ArrayList <ArrayList<DataContainer>>();
+	private Model(boolean givenDetached) {
+		modelState = new AtomicReference<ModelSnapshot>(
+				new ModelSnapshot(0, List.of()));
+		detached = givenDetached;
 	}
 	
 	/**
-	 * This function is used to notify all observers about state change.
+	 * This function is used to notify all observers about state change. The
+	 * viewers are updated on the UI thread, as the data may be stored by an
+	 * analysis running in the background.
 	 */
 	protected void notifyStateChange() {
-		listOfViewersRef.updateAllViewers();
+		ListOfViewers viewers = listOfViewersRef;
+		
+		if (viewers == null) { return; }
+		
+		if (SwingUtilities.isEventDispatchThread()) {
+			viewers.updateAllViewers();
+		} else {
+			SwingUtilities.invokeLater(viewers::updateAllViewers);
+		}
 	}
 	
 	/**
 	 * This function is used to retrieve the current model state.
 	 * 
-	 * @return The current model state.
+	 * @return The latest snapshot of the model state.
 	 */
-	public ArrayList <ArrayList<DataContainer>> getState() {
-		 return modelState; 
+	public ModelSnapshot getState() {
+		 return modelState.get(); 
 	}
 	 
 	/**
-	 * This function is used to store a dataset to the model.
+	 * This function is used to prepare the model for a dataset that will be
+	 * stored one data series at a time as each one arrives. The data shown
+	 * before is kept, so that it can be shown again if the dataset is
+	 * abandoned.
+	 * 
+	 * @param seriesCount The number of data series in the dataset.
+	 * @return The generation of the dataset, to be given with each of its
+	 * data series.
+	 */
+	public synchronized int beginData(int seriesCount) {
+		pendingData = new Series[seriesCount];
+		Arrays.fill(pendingData, new SeriesBuffer(0).toSeries());
+		previousData = modelState.get().getSeries();
+		partialDataShown = false;
+		
+		return ++generation;
+	}
+	
+	/**
+	 * This function is used to store one data series of a dataset, publishing
+	 * it straight away along with the series stored so far so that viewers
+	 * can show it before the rest have arrived. Series of any dataset other
+	 * than the one begun last are dropped.
+	 * 
+	 * @param run The generation of the dataset, as given when it was begun.
+	 * @param index The position of the data series in the dataset.
+	 * @param givenSeries The data series processed from the World-Bank.
+	 */
+	public void storePartialData(int run, int index, Series givenSeries) {
+		// Nobody is shown the series of a detached model before the end.
+		if (detached) { return; }
+		
+		// Publish under the lock, so that no later dataset can be shown
+		// before the series of one already replaced.
+		synchronized (this) {
+			// Ignore series of a dataset replaced, abandoned or completed.
+			if (run != generation || pendingData == null) { return; }
+			
+			pendingData[index] = givenSeries;
+			partialDataShown = true;
+			publishData(List.of(pendingData));
+		}
+		
+		if (listOfViewersRef != null) { listOfViewersRef.refreshViewers(); }
+	}
+	
+	/**
+	 * This function is used to abandon the dataset being stored one data
+	 * series at a time, showing again the data shown before it was begun.
+	 */
+	public void abandonData() {
+		synchronized (this) {
+			if (pendingData == null) { return; }
+			
+			pendingData = null;
+			generation++;
+			
+			if (!partialDataShown) { return; }
+			
+			publishData(previousData);
+		}
+		
+		if (listOfViewersRef != null) { listOfViewersRef.refreshViewers(); }
+	}
+	
+	/**
+	 * This function is used to store a dataset to the model by publishing it
+	 * as the next snapshot.
 	 * 
 	 * @param givenData Concatenated list of data processed from the 
-	 * World-Bank.
+	 * World-Bank, which is copied.
 	 */
-	public void storeData(ArrayList <ArrayList<DataContainer>> givenData) {
-		modelState = givenData;
+	public void storeData(List<Series> givenData) {
+		// Drop the data of an analysis that was cancelled while running.
+		if (Thread.currentThread().isInterrupted()) { return; }
+		
+		List<Series> data = List.copyOf(givenData);
+		
+		synchronized (this) {
+			pendingData = null;
+			generation++;
+			publishData(data);
+		}
+		
 		notifyStateChange();
 	}
 	
+	/**
+	 * This function is used to publish a dataset as the next snapshot.
+	 * 
+	 * @param data The unmodifiable list of data series to publish.
+	 */
+	private void publishData(List<Series> data) {
+		modelState.updateAndGet(current -> new ModelSnapshot(
+				current.getVersion() + 1, data));
+	}
+	
 	/**
 	 * This function is used to set the viewers reference for the observers.
 	 * 
@@ -68,14 +186,41 @@ public class Model {
 	 
 	private
 	/**
-	 * Reference to concatenated list of data processed from the World-Bank.
+	 * Reference to the latest snapshot of the data processed from the
+	 * World-Bank.
+	 */
+	AtomicReference<ModelSnapshot> modelState;
+	
+	/**
+	 * Reference to the data series of the dataset being stored one at a
+	 * time, null if there is none.
+	 */
+	Series[] pendingData;
+	
+	/**
+	 * Reference to the data shown before the pending dataset was begun.
+	 */
+	List<Series> previousData;
+	
+	/**
+	 * Reference to whether any series of the pending dataset has been shown.
+	 */
+	boolean partialDataShown;
+	
+	/**
+	 * Reference to the generation of the dataset begun last.
+	 */
+	int generation;
+	
+	/**
+	 * Reference to whether the model is not shown by any viewer.
 	 */
-	static ArrayList <ArrayList<DataContainer>> modelState;
+	final boolean detached;
 	
 	/**
 	 * Reference to list of viewers to subscribe to.
 	 */
-	static ListOfViewers listOfViewersRef;
+	ListOfViewers listOfViewersRef;
 	
 	/**
 	 * Reference to the unique instance of the model object. 
@@ -0,0 +1,63 @@
+import java.util.List;
+
+/**
+ * This class defines an immutable snapshot of the processed data held by the
+ * model. Every time new data is stored the model publishes a new snapshot
+ * with a higher version, so viewers may keep reading the one they were given.
+ *
+ * @author Matthew Bertuzzi.
+ * @version	1.0.0
+ * @see Model Series
+ */
+public class ModelSnapshot {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param givenVersion The version of the snapshot.
+	 * @param givenSeries The data series of the snapshot, copied if needed.
+	 */
+	public ModelSnapshot(long givenVersion, List<Series> givenSeries) {
+		version = givenVersion;
+		series = List.copyOf(givenSeries);
+	}
+	
+	/**
+	 * This function is used to retrieve the version of the snapshot.
+	 *
+	 * @return The version, higher for every new snapshot.
+	 */
+	public long getVersion() { return version; }
+	
+	/**
+	 * This function is used to retrieve the number of data series held.
+	 *
+	 * @return The number of data series in the snapshot.
+	 */
+	public int size() { return series.size(); }
+	
+	/**
+	 * This function is used to retrieve one of the data series.
+	 *
+	 * @param index The position of the data series.
+	 * @return The data series at the position.
+	 */
+	public Series get(int index) { return series.get(index); }
+	
+	/**
+	 * This function is used to retrieve all of the data series.
+	 *
+	 * @return An unmodifiable list of the data series.
+	 */
+	public List<Series> getSeries() { return series; }
+	
+	private
+	/**
+	 * Reference to the version of the snapshot.
+	 */
+	final long version;
+	
+	/**
+	 * Reference to the unmodifiable list of data series.
+	 */
+	final List<Series> series;
+}
@@ -14,7 +14,12 @@ public class ProxyDatabase extends AbstractDatabase{
 	/**
 	 * Constructor function for initializing an instance of this object.
 	 */
-	public ProxyDatabase() {}
+	public ProxyDatabase() {
+		analysisMap = new AnalysisMap();
+		
+		// Start learning which years hold data while nothing is asked yet.
+		coverageIndex = CoverageIndex.getInstance();
+	}
 	
 	/**
 	 * This function is used to validate the user's login credentials through
@@ -48,7 +53,7 @@ public class ProxyDatabase extends AbstractDatabase{
 	 * @param endYear The user chosen end year for analysis.
 	 * @return 0 if the parameters are valid, 1 if valid country but invalid
 	 * year, 2 if invalid country, 3 if bad or missing data, 4 if the time
-	 * range is invalid.
+	 * range is invalid, 5 if the time range is known to hold no data.
 	 */
 	public int isValidSetup(int analysisType, String country, 
 			int startYear, int endYear) {
@@ -59,7 +64,50 @@ public class ProxyDatabase extends AbstractDatabase{
 		// Lazy initialization of database.
 		lazyInitDB();
 		
-		return localDB.isValidSetup(analysisType, country, startYear, endYear);
+		int response = localDB.isValidSetup(analysisType, country, startYear,
+				endYear);
+		
+		// Turn away ranges known to be empty before any request is made.
+		if (response == 0 && findAvailableYears(analysisType, country,
+				startYear, endYear) == null) { return 5; }
+		
+		return response;
+	}
+	
+	/**
+	 * This function is used to trim a range of years to the part that may
+	 * hold data for the analysis, from what is known about the data already
+	 * retrieved. The years at either end known to hold no data for any of
+	 * its indicators are left out.
+	 * 
+	 * @param analysisType The user chosen analysis type.
+	 * @param country The user chosen country for analysis.
+	 * @param startYear The user chosen start year for analysis.
+	 * @param endYear The user chosen end year for analysis.
+	 * @return The first and last year that may hold data, or null if one of
+	 * the indicators of the analysis is known to hold none in the range.
+	 */
+	public int[] findAvailableYears(int analysisType, String country,
+			int startYear, int endYear) {
+		var analysis = analysisMap.getAnalysis(analysisType);
+		
+		if (analysis == null) { return new int[] {startYear, endYear}; }
+		
+		int first = Integer.MAX_VALUE;
+		int last = Integer.MIN_VALUE;
+		
+		// Every indicator needs data, but together they may span the range.
+		for (String indicator : analysis.getIndicators()) {
+			int[] covered = coverageIndex.findCoveredRange(country, indicator,
+					startYear, endYear);
+			
+			if (covered == null) { return null; }
+			
+			first = Math.min(first, covered[0]);
+			last = Math.max(last, covered[1]);
+		}
+		
+		return new int[] {first, last};
 	}
 	
 	/**
@@ -104,7 +152,7 @@ public class ProxyDatabase extends AbstractDatabase{
 	 * This function is used to implement the lazy initialization of the
 	 * local database.
 	 */
-	private void lazyInitDB() {
+	private synchronized void lazyInitDB() {
 		if (localDB == null) {
 			localDB = new RealDatabase();
 		}
@@ -114,5 +162,16 @@ public class ProxyDatabase extends AbstractDatabase{
 	/**
 	 * A reference to the local database being mapped by this proxy database.
 	 */
-	RealDatabase localDB;
+	volatile RealDatabase localDB;
+	
+	/**
+	 * A reference to the analysis map for looking up the indicators of each
+	 * analysis type.
+	 */
+	final AnalysisMap analysisMap;
+	
+	/**
+	 * A reference to the index of the years known to hold data.
+	 */
+	final CoverageIndex coverageIndex;
 }
@@ -1,5 +1,14 @@
 import java.io.BufferedReader;
 import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
 
 /**
  * This class is used to define a middle man implementation of the abstract
@@ -12,9 +21,14 @@ import java.io.FileReader;
 public class RealDatabase extends AbstractDatabase {
 	
 	/**
-	 * Constructor function for initializing an instance of this object.
+	 * Constructor function for initializing an instance of this object. The
+	 * validation databases are read into an index once, and read again
+	 * whenever one of them changes on disk.
 	 */
-	public RealDatabase() {}
+	public RealDatabase() {
+		index = loadIndex();
+		watchDatabases();
+	}
 	
 	/**
 	 * This function is used to validate the user's login credentials through
@@ -68,44 +82,15 @@ public class RealDatabase extends AbstractDatabase {
 	
 	/**
 	 * This function is used to validate if the user's viewer selection can
-	 * be produced for the selected analysis type.
+	 * be produced for the selected analysis type, from the index held in
+	 * memory.
 	 *
 	 * @param analysisType The user chosen analysis type.
 	 * @param graphType The user chosen viewer type.
 	 * @return True if the viewer type are valid, false otherwise.
 	 */
 	public boolean isValidViewer(int analysisType, String graphType) {
-		// Row to read file till.
-		int rowStop = analysisType - 1;
-		
-		// Connect to the viewer database by opening text file.
-		try (BufferedReader reader = new BufferedReader
-				(new FileReader(viewerAnalysisDb))) {
-		    String line;
-		    int count = 0;
-		    
-		    // Traverse database until correct analysis type row is found
-		    while ((line = reader.readLine()) != null) {
-		    	if (count == rowStop) {
-		    		// Split the stings based on commas to 
-			    	// isolate viewer names.
-			    	String[] analysis = line.split(",");
-			    	
-		    		// Check if a valid viewer name matches the input provided.
-			    	for (int i = 0; i < analysis.length; i++) {
-			    		if (graphType.equals(analysis[i])) {
-			    			return true;
-			    		}
-			    	}		
-		    	}
-		    	
-		    	count++;
-		    }
-		} catch (Exception err){
-		    System.err.println(err.getMessage());
-			}
-		
-		return false;
+		return index.hasViewer(analysisType, graphType);
 	}
 	
 	/**
@@ -117,36 +102,7 @@ public class RealDatabase extends AbstractDatabase {
 	 * @return True if the country supports the analysis type, false otherwise.
 	 */
 	private boolean validCountry(int analysisType, String country) {
-		// Row to read file till.
-		int rowStop = analysisType - 1;
-					
-		// Connect to the country database by opening text file.
-		try (BufferedReader reader = new BufferedReader
-				(new FileReader(countryAnalysisDb))) {
-		    String line;
-		    int count = 0;
-		    
-		    while ((line = reader.readLine()) != null) {	
-		    	if(count == rowStop) {
-		    		// Split the stings based on commas to 
-			    	// isolate country names.
-			    	String[] countryNames = line.split(",");
-			    	
-		    		// Check if the a valid country matches the input provided.
-			    	for (int i = 0; i < countryNames.length; i++) {
-			    		if(country.equals(countryNames[i])) {
-			    			return true;
-			    		}
-			    	}		
-		    	}
-		    	
-		    	count++;
-		    }
-		} catch (Exception err) {
-		    System.err.println(err.getMessage());
-			}
-		
-		return false;
+		return index.hasCountry(analysisType, country);
 	}
 	
 	/**
@@ -160,40 +116,80 @@ public class RealDatabase extends AbstractDatabase {
 	 */
 	private boolean validYearRange(int analysisType, int givenStartYear,
 			int givenEndYear) {
-		// Row to read file till.
-		int rowStop = analysisType - 1;
+		return index.coversYears(analysisType, givenStartYear, givenEndYear);
+	}
 				
-		// Connect to the credential database by opening text file.
-		try (BufferedReader reader = new BufferedReader
-				(new FileReader(yearAnalysisDb))) {
-		    String line;
-		    int count = 0;
+	/**
+	 * This function is used to read the validation databases into an index.
+	 *
+	 * @return The index of the validation databases.
+	 */
+	private ValidationIndex loadIndex() {
+		return new ValidationIndex(Paths.get(countryAnalysisDb),
+				Paths.get(yearAnalysisDb), Paths.get(viewerAnalysisDb));
+	}
 		    
-		    while ((line = reader.readLine()) != null) { 	
-		    	if(count == rowStop) {
-		    		// Split the stings based on commas to 
-			    	// isolate start and end years.
-			    	String[] yearRangeSplit = line.split(",");
+	/**
+	 * This function is used to watch the directory of the validation
+	 * databases on a daemon thread, replacing the index whenever one of them
+	 * is written, so that no file is read while validating.
+	 */
+	private void watchDatabases() {
+		Path directory = Paths.get(countryAnalysisDb).toAbsolutePath()
+				.getParent();
+		Set<Path> databases = Set.of(Paths.get(countryAnalysisDb),
+				Paths.get(yearAnalysisDb), Paths.get(viewerAnalysisDb));
+		WatchService watcher;
 			    	   	
-			    	// Check if the ranges match the input provided.
-			    	if (givenStartYear >= Integer.valueOf(yearRangeSplit[0]) &&
-			    			givenStartYear <= Integer.valueOf(yearRangeSplit[1]) &&
-			    			givenEndYear >= Integer.valueOf(yearRangeSplit[0]) &&
-			    			givenEndYear <= Integer.valueOf(yearRangeSplit[1])) {
-			    		return true;
-			    	}
-		    	}
+		try {
+			watcher = FileSystems.getDefault().newWatchService();
+			directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (IOException | UnsupportedOperationException err) {
+			System.err.println("Validation databases will not be reloaded: "
+					+ err.getMessage());
+			return;
+		}
 		    	
-		    	count++;
-		    }
-		} catch (Exception err) {
-		    System.err.println(err.getMessage());
+		Thread thread = new Thread(() -> {
+			try {
+				while (true) {
+					WatchKey key = watcher.take();
+					boolean changed = false;
+					
+					// Let the write finish, so that the events it raises in the
+					// meantime are drained along with the first one.
+					Thread.sleep(reloadDelay);
+					
+					for (WatchEvent<?> event : key.pollEvents()) {
+						if (databases.contains(event.context())) { changed = true; }
+					}
+					
+					key.reset();
+					
+					if (changed) { index = loadIndex(); }
+				}
+			} catch (InterruptedException err) {
+				Thread.currentThread().interrupt();
 			}
-
-		return false;
+		}, "database-watcher");
+		thread.setDaemon(true);
+		thread.start();
 	}
 	
 	private
+	/**
+	 * A reference to the index of the validation databases, replaced as a
+	 * whole when one of them changes.
+	 */
+	volatile ValidationIndex index;
+	
+	/**
+	 * A reference to the time waited for a database to be written before it
+	 * is read again, in milliseconds.
+	 */
+	static final long reloadDelay = 100;
+	
 	/**
 	 * A reference to the credentials database file name.
 	 */
@@ -0,0 +1,152 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class defines an immutable data series as primitive year and value
+ * columns along with a flag for every year marking if its value is available.
+ * It is used to carry the data from the World-Bank adapter through the
+ * analyses to the viewers.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see SeriesBuffer DataContainer
+ */
+public class Series {
+	/**
+	 * Constructor function for initializing an instance of this object. The
+	 * columns are taken over by the series and must not be modified after.
+	 *
+	 * @param givenYears The column of years.
+	 * @param givenValues The column of values, 0 where missing.
+	 * @param givenPresent The flags marking which values are available.
+	 */
+	Series(int[] givenYears, double[] givenValues, BitSet givenPresent) {
+		years = givenYears;
+		values = givenValues;
+		present = givenPresent;
+		
+		// Find the range of years so each one can be located directly.
+		int first = Integer.MAX_VALUE;
+		int last = Integer.MIN_VALUE;
+		
+		for (int i = 0; i < years.length; i++) {
+			first = Math.min(first, years[i]);
+			last = Math.max(last, years[i]);
+		}
+		
+		firstYear = first;
+		yearOffsets = new int[years.length == 0 ? 0 : last - first + 1];
+		Arrays.fill(yearOffsets, -1);
+		
+		for (int i = 0; i < years.length; i++) {
+			yearOffsets[years[i] - firstYear] = i;
+		}
+	}
+	
+	/**
+	 * This function is used to create a series from a list of data
+	 * containers, for callers still working with them.
+	 *
+	 * @param dataList The data containers to copy.
+	 * @return A new series holding the same years and values.
+	 */
+	public static Series fromDataContainers(ArrayList<DataContainer> dataList) {
+		SeriesBuffer dataBuffer = new SeriesBuffer(dataList.size());
+		
+		for (int i = 0; i < dataList.size(); i++) {
+			dataBuffer.add(dataList.get(i).getYear(), dataList.get(i).getValue());
+		}
+		
+		return dataBuffer.toSeries();
+	}
+	
+	/**
+	 * This function is used to retrieve the number of data points held.
+	 *
+	 * @return The number of data points in the series.
+	 */
+	public int size() { return years.length; }
+	
+	/**
+	 * This function is used to retrieve the year of a data point.
+	 *
+	 * @param index The position of the data point.
+	 * @return The year of the data point.
+	 */
+	public int getYear(int index) { return years[index]; }
+	
+	/**
+	 * This function is used to retrieve the value of a data point.
+	 *
+	 * @param index The position of the data point.
+	 * @return The value of the data point, 0 if it is missing.
+	 */
+	public double getValue(int index) { return values[index]; }
+	
+	/**
+	 * This function is used to check if a data point has a recorded value.
+	 *
+	 * @param index The position of the data point.
+	 * @return True if the value is available, false otherwise.
+	 */
+	public boolean isPresent(int index) { return present.get(index); }
+	
+	/**
+	 * This function is used to locate the data point held for a year.
+	 *
+	 * @param givenYear The year to look for.
+	 * @return The position of the data point, -1 if the year is not held.
+	 */
+	public int indexOfYear(int givenYear) {
+		int offset = givenYear - firstYear;
+		
+		if (offset < 0 || offset >= yearOffsets.length) { return -1; }
+		
+		return yearOffsets[offset];
+	}
+	
+	/**
+	 * This function is used to convert the series into the data containers
+	 * used by older callers. Missing values are stored as 0.
+	 *
+	 * @return Array of data stored in DataContainers.
+	 */
+	public ArrayList<DataContainer> toDataContainers() {
+		ArrayList<DataContainer> dataArray =
+				new ArrayList<DataContainer>(years.length);
+		
+		for (int i = 0; i < years.length; i++) {
+			dataArray.add(new DataContainer(years[i], (float) values[i]));
+		}
+		
+		return dataArray;
+	}
+	
+	private
+	/**
+	 * Reference to the column of years.
+	 */
+	final int[] years;
+	
+	/**
+	 * Reference to the column of values.
+	 */
+	final double[] values;
+	
+	/**
+	 * Reference to the flags marking which values are available.
+	 */
+	final BitSet present;
+	
+	/**
+	 * Reference to the earliest year held, the origin of the year offsets.
+	 */
+	final int firstYear;
+	
+	/**
+	 * Reference to the position of each year from the earliest one, -1 for
+	 * the years not held.
+	 */
+	final int[] yearOffsets;
+}
@@ -0,0 +1,210 @@
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class is used to accumulate a data series retrieved from the World-Bank
+ * as primitive year and value columns, so that decoding a response does not
+ * create an object for every data point.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see WorldBankAdapter Series
+ */
+public class SeriesBuffer {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 */
+	public SeriesBuffer() {
+		this(initialCapacity);
+	}
+	
+	/**
+	 * Constructor function for initializing an instance of this object with
+	 * room for a known number of data points.
+	 *
+	 * @param givenCapacity The number of data points to reserve room for.
+	 */
+	public SeriesBuffer(int givenCapacity) {
+		years = new int[Math.max(givenCapacity, 1)];
+		values = new double[years.length];
+		present = new BitSet(years.length);
+		size = 0;
+	}
+	
+	/**
+	 * This function is used to append a year with an available value.
+	 *
+	 * @param givenYear The year of the data point.
+	 * @param givenValue The value recorded for the year.
+	 */
+	public void add(int givenYear, double givenValue) {
+		ensureCapacity(size + 1);
+		years[size] = givenYear;
+		values[size] = givenValue;
+		present.set(size);
+		size++;
+	}
+	
+	/**
+	 * This function is used to append a year for which no value was recorded.
+	 *
+	 * @param givenYear The year of the data point.
+	 */
+	public void addMissing(int givenYear) {
+		ensureCapacity(size + 1);
+		years[size] = givenYear;
+		values[size] = 0;
+		size++;
+	}
+	
+	/**
+	 * This function is used to retrieve the number of data points held.
+	 *
+	 * @return The number of data points in the buffer.
+	 */
+	public int size() { return size; }
+	
+	/**
+	 * This function is used to retrieve the year of a data point.
+	 *
+	 * @param index The position of the data point.
+	 * @return The year of the data point.
+	 */
+	public int getYear(int index) { return years[index]; }
+	
+	/**
+	 * This function is used to retrieve the value of a data point.
+	 *
+	 * @param index The position of the data point.
+	 * @return The value of the data point, 0 if it is missing.
+	 */
+	public double getValue(int index) { return values[index]; }
+	
+	/**
+	 * This function is used to check if a data point has a recorded value.
+	 *
+	 * @param index The position of the data point.
+	 * @return True if the value is available, false otherwise.
+	 */
+	public boolean isPresent(int index) { return present.get(index); }
+	
+	/**
+	 * This function is used to append all the data points of another buffer
+	 * after the ones already held.
+	 *
+	 * @param givenBuffer The buffer whose data points are appended.
+	 */
+	public void append(SeriesBuffer givenBuffer) {
+		ensureCapacity(size + givenBuffer.size);
+		System.arraycopy(givenBuffer.years, 0, years, size, givenBuffer.size);
+		System.arraycopy(givenBuffer.values, 0, values, size, givenBuffer.size);
+		
+		for (int i = 0; i < givenBuffer.size; i++) {
+			present.set(size + i, givenBuffer.present.get(i));
+		}
+		
+		size += givenBuffer.size;
+	}
+	
+	/**
+	 * This function is used to copy the data points falling within a year
+	 * range into a new buffer, keeping their order.
+	 *
+	 * @param startYear The first year to keep.
+	 * @param endYear The last year to keep.
+	 * @return A new buffer holding only the years within the range.
+	 */
+	public SeriesBuffer slice(int startYear, int endYear) {
+		int count = 0;
+		
+		// Count first so the slice is allocated at its exact size.
+		for (int i = 0; i < size; i++) {
+			if (years[i] >= startYear && years[i] <= endYear) { count++; }
+		}
+		
+		SeriesBuffer sliced = new SeriesBuffer(count);
+		
+		for (int i = 0; i < size; i++) {
+			if (years[i] < startYear || years[i] > endYear) { continue; }
+			
+			if (present.get(i)) {
+				sliced.add(years[i], values[i]);
+			} else {
+				sliced.addMissing(years[i]);
+			}
+		}
+		
+		return sliced;
+	}
+	
+	/**
+	 * This function is used to estimate the memory held by the buffer.
+	 *
+	 * @return The approximate size of the buffer in bytes.
+	 */
+	public long getWeight() {
+		return objectOverhead + (long) years.length * bytesPerPoint;
+	}
+	
+	/**
+	 * This function is used to copy the data points held into an immutable
+	 * series trimmed to their exact number.
+	 *
+	 * @return A new series holding the data points of the buffer.
+	 */
+	public Series toSeries() {
+		return new Series(Arrays.copyOf(years, size),
+				Arrays.copyOf(values, size), present.get(0, size));
+	}
+	
+	/**
+	 * This function is used to grow the columns when they are full.
+	 *
+	 * @param minCapacity The number of data points that must fit.
+	 */
+	private void ensureCapacity(int minCapacity) {
+		if (minCapacity > years.length) {
+			int newCapacity = Math.max(minCapacity, years.length * 2);
+			years = Arrays.copyOf(years, newCapacity);
+			values = Arrays.copyOf(values, newCapacity);
+		}
+	}
+	
+	private
+	/**
+	 * Reference to the number of data points reserved by default, enough
+	 * for the full range of years offered by the application.
+	 */
+	static final int initialCapacity = 64;
+	
+	/**
+	 * Reference to the approximate bytes held per reserved data point.
+	 */
+	static final int bytesPerPoint = Integer.BYTES + Double.BYTES + 1;
+	
+	/**
+	 * Reference to the approximate bytes held by the buffer objects
+	 * themselves, regardless of the number of data points.
+	 */
+	static final int objectOverhead = 96;
+	
+	/**
+	 * Reference to the column of years.
+	 */
+	int[] years;
+	
+	/**
+	 * Reference to the column of values.
+	 */
+	double[] values;
+	
+	/**
+	 * Reference to the flags marking which values are available.
+	 */
+	BitSet present;
+	
+	/**
+	 * Reference to the number of data points held.
+	 */
+	int size;
+}
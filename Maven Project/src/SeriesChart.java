@@ -0,0 +1,142 @@
+import java.awt.Color;
+import java.awt.Dimension;
+import java.util.ArrayList;
+
+import javax.swing.BorderFactory;
+import javax.swing.JPanel;
+
+import org.jfree.chart.ChartPanel;
+import org.jfree.chart.JFreeChart;
+
+/**
+ * This class is used to keep the chart of a viewer plotting data series for
+ * the whole session. The panel showing the chart is created once, the chart
+ * itself is only rebuilt when the analysis changes, and otherwise the plotted
+ * datasets are handed the latest data so the chart redraws in place.
+ *
+ * @author Matthew Bertuzzi.
+ * @version	1.0.0
+ * @see ViewerLine ViewerTime ViewerScatter SeriesDataset
+ */
+public class SeriesChart {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param givenTimeAxis True if the datasets are plotted on a date axis,
+	 * false if they are plotted on a number axis.
+	 */
+	public SeriesChart(boolean givenTimeAxis) {
+		timeAxis = givenTimeAxis;
+		plottedDatasets = new ArrayList<SeriesDataset>();
+	}
+	
+	/**
+	 * This function is used to check if the chart was built for an analysis,
+	 * in which case only its data needs refreshing.
+	 *
+	 * @param analysisType The type of analysis being performed.
+	 * @return True if the chart was built for the analysis, false otherwise.
+	 */
+	public boolean isBuiltFor(int analysisType) {
+		return chartPanel != null && renderedAnalysisType == analysisType;
+	}
+	
+	/**
+	 * This function is used to forget the plotted datasets before a new chart
+	 * is built.
+	 */
+	public void clearDatasets() {
+		plottedDatasets = new ArrayList<SeriesDataset>();
+	}
+	
+	/**
+	 * This function is used to create a dataset that plots the acquired data
+	 * series straight from the latest data, without copying them.
+	 *
+	 * @param givenSnapshot The snapshot holding the data series to plot.
+	 * @return A dataset to add the data series being plotted to.
+	 */
+	public SeriesDataset createDataset(ModelSnapshot givenSnapshot) {
+		SeriesDataset dataset = new SeriesDataset(givenSnapshot, timeAxis);
+		plottedDatasets.add(dataset);
+		
+		return dataset;
+	}
+	
+	/**
+	 * This function is used to show a newly built chart, creating the panel
+	 * the first time and only swapping the chart it shows afterwards.
+	 *
+	 * @param givenChart The chart built for the analysis.
+	 * @param analysisType The type of analysis the chart was built for.
+	 * @param givenSnapshot The snapshot the chart was built from.
+	 */
+	public void setChart(JFreeChart givenChart, int analysisType,
+			ModelSnapshot givenSnapshot) {
+		if (chartPanel == null) {
+			chartPanel = new ChartPanel(givenChart);
+			chartPanel.setPreferredSize(new Dimension(400, 300));
+			chartPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+			chartPanel.setBackground(Color.white);
+		} else {
+			chartPanel.setChart(givenChart);
+		}
+		
+		renderedAnalysisType = analysisType;
+		renderedVersion = givenSnapshot.getVersion();
+	}
+	
+	/**
+	 * This function is used to hand the latest data to the plotted datasets,
+	 * each of which then redraws the chart once.
+	 *
+	 * @param givenSnapshot The snapshot holding the latest data.
+	 */
+	public void refresh(ModelSnapshot givenSnapshot) {
+		if (renderedVersion == givenSnapshot.getVersion()) { return; }
+		
+		for (int i = 0; i < plottedDatasets.size(); i++) {
+			plottedDatasets.get(i).setSnapshot(givenSnapshot);
+		}
+		
+		renderedVersion = givenSnapshot.getVersion();
+	}
+	
+	/**
+	 * This function is used to place the chart panel onto the given panel,
+	 * unless it is already shown there.
+	 *
+	 * @param givenPanel The panel on which to display the viewer.
+	 */
+	public void show(JPanel givenPanel) {
+		if (chartPanel.getParent() != givenPanel) {
+			givenPanel.add(chartPanel);
+		}
+	}
+	
+	private
+	/**
+	 * Reference to the panel showing the chart, kept for the whole session.
+	 */
+	ChartPanel chartPanel;
+	
+	/**
+	 * Reference to the version of the data the chart currently shows.
+	 */
+	long renderedVersion;
+	
+	/**
+	 * Reference to the type of analysis the chart was built for.
+	 */
+	int renderedAnalysisType;
+	
+	/**
+	 * Reference to the datasets plotted on the chart.
+	 */
+	ArrayList<SeriesDataset> plottedDatasets;
+	
+	/**
+	 * Reference to whether the datasets are plotted on a date axis.
+	 */
+	final boolean timeAxis;
+}
@@ -0,0 +1,277 @@
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+
+/**
+ * This class is used to plot the data series of a model snapshot without
+ * copying them. The years and values are read straight from the series held
+ * by the snapshot, so every viewer draws from the same data and a chart only
+ * needs to be handed the next snapshot for it to be redrawn.
+ *
+ * @author Matthew Bertuzzi.
+ * @version	1.0.0
+ * @see ModelSnapshot Series
+ */
+public class SeriesDataset extends AbstractIntervalXYDataset {
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param givenSnapshot The snapshot holding the data series to plot.
+	 * @param givenTimeAxis True to give each year as the span of time it covers
+	 * for a date axis, false to give the year itself as a number.
+	 */
+	public SeriesDataset(ModelSnapshot givenSnapshot, boolean givenTimeAxis) {
+		snapshot = givenSnapshot;
+		timeAxis = givenTimeAxis;
+		seriesPositions = new ArrayList<Integer>();
+		seriesKeys = new ArrayList<String>();
+	}
+	
+	/**
+	 * This function is used to plot one of the data series of the snapshot.
+	 *
+	 * @param position The position of the data series in the snapshot.
+	 * @param key The name of the data series being plotted.
+	 */
+	public void addSeries(int position, String key) {
+		seriesPositions.add(position);
+		seriesKeys.add(key);
+		updateYearStarts();
+		fireDatasetChanged();
+	}
+	
+	/**
+	 * This function is used to plot the same data series from a newer
+	 * snapshot. Listeners are told about the change once for all the series.
+	 *
+	 * @param givenSnapshot The snapshot holding the data series to plot.
+	 */
+	public void setSnapshot(ModelSnapshot givenSnapshot) {
+		if (givenSnapshot == snapshot) { return; }
+		
+		snapshot = givenSnapshot;
+		updateYearStarts();
+		fireDatasetChanged();
+	}
+	
+	@Override
+	public int getSeriesCount() { return seriesKeys.size(); }
+	
+	@Override
+	public Comparable<String> getSeriesKey(int series) {
+		return seriesKeys.get(series);
+	}
+	
+	@Override
+	public int getItemCount(int series) { return getSeries(series).size(); }
+	
+	@Override
+	public double getXValue(int series, int item) {
+		int year = getYear(series, item);
+		return timeAxis ? getYearStart(year) : year;
+	}
+	
+	@Override
+	public double getStartXValue(int series, int item) {
+		int year = getYear(series, item);
+		return timeAxis ? getYearStart(year) : year - 0.5;
+	}
+	
+	@Override
+	public double getEndXValue(int series, int item) {
+		int year = getYear(series, item);
+		return timeAxis ? getYearStart(year + 1) - 1 : year + 0.5;
+	}
+	
+	@Override
+	public double getYValue(int series, int item) {
+		Series data = getSeries(series);
+		return data.getValue(getPosition(data, item));
+	}
+	
+	@Override
+	public double getStartYValue(int series, int item) {
+		return getYValue(series, item);
+	}
+	
+	@Override
+	public double getEndYValue(int series, int item) {
+		return getYValue(series, item);
+	}
+	
+	@Override
+	public Number getX(int series, int item) {
+		return getXValue(series, item);
+	}
+	
+	@Override
+	public Number getStartX(int series, int item) {
+		return getStartXValue(series, item);
+	}
+	
+	@Override
+	public Number getEndX(int series, int item) {
+		return getEndXValue(series, item);
+	}
+	
+	@Override
+	public Number getY(int series, int item) {
+		return getYValue(series, item);
+	}
+	
+	@Override
+	public Number getStartY(int series, int item) {
+		return getYValue(series, item);
+	}
+	
+	@Override
+	public Number getEndY(int series, int item) {
+		return getYValue(series, item);
+	}
+	
+	/**
+	 * This function is used to retrieve a plotted data series from the
+	 * snapshot.
+	 *
+	 * @param series The position of the data series among those plotted.
+	 * @return The data series, empty if the snapshot does not hold it.
+	 */
+	private Series getSeries(int series) {
+		int position = seriesPositions.get(series);
+		
+		if (position >= snapshot.size()) { return emptySeries; }
+		
+		return snapshot.get(position);
+	}
+	
+	/**
+	 * This function is used to find the data point of an item. The items are
+	 * given from the earliest year on, whichever order the series holds them.
+	 *
+	 * @param data The data series holding the item.
+	 * @param item The position of the item in the plotted series.
+	 * @return The position of the data point in the data series.
+	 */
+	private int getPosition(Series data, int item) {
+		int last = data.size() - 1;
+		return data.getYear(0) > data.getYear(last) ? last - item : item;
+	}
+	
+	/**
+	 * This function is used to find the year of an item.
+	 *
+	 * @param series The position of the data series among those plotted.
+	 * @param item The position of the item in the plotted series.
+	 * @return The year of the item.
+	 */
+	private int getYear(int series, int item) {
+		Series data = getSeries(series);
+		return data.getYear(getPosition(data, item));
+	}
+	
+	/**
+	 * This function is used to find the first millisecond of a year in the
+	 * default time zone, as a date axis expects it.
+	 *
+	 * @param year The year to look up.
+	 * @return The time the year starts, in milliseconds.
+	 */
+	private long getYearStart(int year) {
+		int offset = year - firstYear;
+		
+		if (offset >= 0 && offset < yearStarts.length) {
+			return yearStarts[offset];
+		}
+		
+		return computeYearStart(year);
+	}
+	
+	/**
+	 * This function is used to work out ahead the start of every year plotted
+	 * on a date axis, so that the chart does not need to work them out for
+	 * each item it draws.
+	 */
+	private void updateYearStarts() {
+		if (!timeAxis) { return; }
+		
+		int first = Integer.MAX_VALUE;
+		int last = Integer.MIN_VALUE;
+		
+		for (int i = 0; i < seriesPositions.size(); i++) {
+			Series data = getSeries(i);
+			
+			for (int j = 0; j < data.size(); j++) {
+				first = Math.min(first, data.getYear(j));
+				last = Math.max(last, data.getYear(j));
+			}
+		}
+		
+		if (first > last) {
+			yearStarts = new long[0];
+			return;
+		}
+		
+		// Keep the start of the year after the last one to find where it ends.
+		firstYear = first;
+		yearStarts = new long[last - first + 2];
+		
+		for (int i = 0; i < yearStarts.length; i++) {
+			yearStarts[i] = computeYearStart(first + i);
+		}
+	}
+	
+	/**
+	 * This function is used to work out the first millisecond of a year in
+	 * the default time zone.
+	 *
+	 * @param year The year to work out.
+	 * @return The time the year starts, in milliseconds.
+	 */
+	private static long computeYearStart(int year) {
+		return LocalDate.of(year, 1, 1).atStartOfDay(ZoneId.systemDefault())
+				.toInstant().toEpochMilli();
+	}
+	
+	private
+	/**
+	 * Reference to the snapshot holding the data series plotted.
+	 */
+	ModelSnapshot snapshot;
+	
+	/**
+	 * Reference to whether the years are given as time for a date axis.
+	 */
+	final boolean timeAxis;
+	
+	/**
+	 * Reference to the position in the snapshot of each data series plotted.
+	 */
+	final ArrayList<Integer> seriesPositions;
+	
+	/**
+	 * Reference to the name of each data series plotted.
+	 */
+	final ArrayList<String> seriesKeys;
+	
+	/**
+	 * Reference to the earliest year plotted on a date axis.
+	 */
+	int firstYear;
+	
+	/**
+	 * Reference to the first millisecond of each year from the earliest one.
+	 */
+	long[] yearStarts = new long[0];
+	
+	/**
+	 * Reference to the series plotted for a position the snapshot lacks.
+	 */
+	static final Series emptySeries = new SeriesBuffer(0).toSeries();
+	
+	/**
+	 * Reference to the serial version of this class.
+	 */
+	static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,19 @@
+/**
+ * This interface is used to define a listener that is told about each data
+ * series of an analysis as soon as it has been retrieved, rather than once
+ * all of them are available.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see WorldBankInterface Model
+ */
+public interface SeriesListener {
+	/**
+	 * This function is called once a data series has been retrieved. It may
+	 * be called from any thread and in any order of the series.
+	 *
+	 * @param index The position of the series among those requested.
+	 * @param series The data series retrieved, empty if it was unavailable.
+	 */
+	public void seriesReady(int index, Series series);
+}
@@ -1,7 +1,7 @@
 /**
  * This interface is used to define an abstraction for the strategy used to 
- * compute the analysis. It has one method that will be overridden by all
- * the classes that implement it.
+ * compute the analysis. Its methods will be overridden by all the classes
+ * that implement it.
  *
  * @author Matthew Bertuzzi.
  * @version	1.0.0
@@ -20,4 +20,13 @@ public interface Strategy {
 	 */
 	public boolean doAnalysis(String country, int givenStartyear,
 			int givenEndYear, Model modelRef);
+	
+	/**
+	 * This function is overridden to give the World-Bank reference titles of
+	 * the data used by the analysis, so that its availability can be checked
+	 * before any of it is requested.
+	 * 
+	 * @return The reference titles, in the order the data is requested.
+	 */
+	public String[] getIndicators();
 }
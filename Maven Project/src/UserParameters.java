@@ -14,7 +14,7 @@ public class UserParameters {
 	 *
 	 * @return A unique instance of the object.
 	 */
-	public static UserParameters getInstance() {
+	public static synchronized UserParameters getInstance() {
 		if(instance == null) {
 			instance = new UserParameters();
 		}
@@ -0,0 +1,195 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * This class is used to hold the databases the analysis parameters are
+ * validated against, parsed once into a form that answers each check without
+ * reading any file: a set of countries for each analysis type, a range of
+ * years for each analysis type and a mask of the viewers for each analysis
+ * type. An index never changes once built; a new one is built to take in any
+ * change to the files.
+ *
+ * @author Sanjayan Kulendran.
+ * @version	1.0.0
+ * @see RealDatabase
+ */
+public class ValidationIndex {
+	/**
+	 * Constructor function for initializing an instance of this object. A
+	 * file that can't be read leaves every check it answers failing.
+	 *
+	 * @param countryFile The database of the countries of each analysis type.
+	 * @param yearFile The database of the range of years of each analysis type.
+	 * @param viewerFile The database of the viewers of each analysis type.
+	 */
+	public ValidationIndex(Path countryFile, Path yearFile, Path viewerFile) {
+		countryIds = new HashMap<String, Integer>();
+		viewerIds = new HashMap<String, Integer>();
+		
+		// Number the countries as they are first seen and mark them for
+		// every analysis type listing them.
+		List<String[]> countryRows = readRows(countryFile);
+		countries = new BitSet[countryRows.size()];
+		
+		for (int i = 0; i < countryRows.size(); i++) {
+			countries[i] = new BitSet();
+			
+			for (String country : countryRows.get(i)) {
+				Integer id = countryIds.computeIfAbsent(country,
+						ignored -> countryIds.size());
+				countries[i].set(id);
+			}
+		}
+		
+		// Keep the first and last year of each analysis type, leaving the
+		// range empty when the row can't be read.
+		List<String[]> yearRows = readRows(yearFile);
+		firstYears = new int[yearRows.size()];
+		lastYears = new int[yearRows.size()];
+		
+		for (int i = 0; i < yearRows.size(); i++) {
+			try {
+				firstYears[i] = Integer.parseInt(yearRows.get(i)[0]);
+				lastYears[i] = Integer.parseInt(yearRows.get(i)[1]);
+			} catch (RuntimeException err) {
+				System.err.println("Invalid years for analysis " + (i + 1)
+						+ " in " + yearFile);
+				firstYears[i] = 0;
+				lastYears[i] = -1;
+			}
+		}
+		
+		// Give each viewer a bit and set it for every analysis type listing it.
+		List<String[]> viewerRows = readRows(viewerFile);
+		viewers = new long[viewerRows.size()];
+		
+		for (int i = 0; i < viewerRows.size(); i++) {
+			for (String viewer : viewerRows.get(i)) {
+				Integer id = viewerIds.computeIfAbsent(viewer,
+						ignored -> viewerIds.size());
+				
+				if (id < Long.SIZE) { viewers[i] |= 1L << id; }
+			}
+		}
+	}
+	
+	/**
+	 * This function is used to check if a country can be used for an
+	 * analysis type.
+	 *
+	 * @param analysisType The type of analysis, from 1.
+	 * @param country The ISO3 code of the country.
+	 * @return True if the country supports the analysis type, false otherwise.
+	 */
+	public boolean hasCountry(int analysisType, String country) {
+		Integer id = countryIds.get(country);
+		
+		if (id == null || analysisType < 1 || analysisType > countries.length) {
+			return false;
+		}
+		
+		return countries[analysisType - 1].get(id);
+	}
+	
+	/**
+	 * This function is used to check if a range of years can be used for an
+	 * analysis type.
+	 *
+	 * @param analysisType The type of analysis, from 1.
+	 * @param startYear The first year of the range.
+	 * @param endYear The last year of the range.
+	 * @return True if the range supports the analysis type, false otherwise.
+	 */
+	public boolean coversYears(int analysisType, int startYear, int endYear) {
+		if (analysisType < 1 || analysisType > firstYears.length) {
+			return false;
+		}
+		
+		int first = firstYears[analysisType - 1];
+		int last = lastYears[analysisType - 1];
+		
+		return startYear >= first && startYear <= last
+				&& endYear >= first && endYear <= last;
+	}
+	
+	/**
+	 * This function is used to check if a viewer can be used for an analysis
+	 * type.
+	 *
+	 * @param analysisType The type of analysis, from 1.
+	 * @param graphType The name of the viewer.
+	 * @return True if the viewer supports the analysis type, false otherwise.
+	 */
+	public boolean hasViewer(int analysisType, String graphType) {
+		Integer id = viewerIds.get(graphType);
+		
+		if (id == null || id >= Long.SIZE || analysisType < 1
+				|| analysisType > viewers.length) { return false; }
+		
+		return (viewers[analysisType - 1] & (1L << id)) != 0;
+	}
+	
+	/**
+	 * This function is used to read a database file as rows of comma
+	 * separated values.
+	 *
+	 * @param file The database file.
+	 * @return The values of each row, none if the file can't be read.
+	 */
+	private static List<String[]> readRows(Path file) {
+		ArrayList<String[]> rows = new ArrayList<String[]>();
+		
+		try {
+			for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+				String[] values = line.split(",");
+				
+				for (int i = 0; i < values.length; i++) {
+					values[i] = values[i].trim();
+				}
+				
+				rows.add(values);
+			}
+		} catch (IOException err) {
+			System.err.println("Could not read " + file + ": " + err.getMessage());
+		}
+		
+		return rows;
+	}
+	
+	private
+	/**
+	 * Reference to the number given to each country.
+	 */
+	final HashMap<String, Integer> countryIds;
+	
+	/**
+	 * Reference to the countries of each analysis type, by number.
+	 */
+	final BitSet[] countries;
+	
+	/**
+	 * Reference to the first valid year of each analysis type.
+	 */
+	final int[] firstYears;
+	
+	/**
+	 * Reference to the last valid year of each analysis type.
+	 */
+	final int[] lastYears;
+	
+	/**
+	 * Reference to the bit given to each viewer.
+	 */
+	final HashMap<String, Integer> viewerIds;
+	
+	/**
+	 * Reference to the mask of the viewers of each analysis type.
+	 */
+	final long[] viewers;
+}
@@ -1,14 +1,10 @@
 import java.awt.BasicStroke;
 import java.awt.Color;
-import java.awt.Dimension;
 import java.awt.Font;
-import java.util.ArrayList;
 
-import javax.swing.BorderFactory;
 import javax.swing.JPanel;
 
 import org.jfree.chart.ChartFactory;
-import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.block.BlockBorder;
@@ -16,8 +12,6 @@ import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.title.TextTitle;
-import org.jfree.data.xy.XYSeries;
-import org.jfree.data.xy.XYSeriesCollection;
 
 /**
  * This class is used to design a Line Series viewer by extending and 
@@ -37,6 +31,7 @@ public class ViewerLine extends AbstractViewer{
 	public ViewerLine(Model givenModelRef, int givenAnalysisType) { 
 		modelRef = givenModelRef;
 		this.analysisType = givenAnalysisType;
+		seriesChart = new SeriesChart(false);
 	}
 	
 	@Override
@@ -91,6 +86,14 @@ public class ViewerLine extends AbstractViewer{
 	 * @param givenPanel The panel on which to display the viewer.
 	 */
 	private void createLineChart(JPanel givenPanel) {
+		// Keep the chart built for this analysis and refill its data in place.
+		if (seriesChart.isBuiltFor(this.analysisType)) {
+			seriesChart.refresh(viewerState);
+			seriesChart.show(givenPanel);
+			return;
+		}
+		
+		seriesChart.clearDatasets();
 		JFreeChart finaLineChart = null;
 		
 		// Determine Analysis Type.
@@ -131,11 +134,9 @@ public class ViewerLine extends AbstractViewer{
 					+ " type!");
 		}
 		
-		ChartPanel chartPanel = new ChartPanel(finaLineChart);
-		chartPanel.setPreferredSize(new Dimension(400, 300));
-		chartPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
-		chartPanel.setBackground(Color.white);
-		givenPanel.add(chartPanel);
+		// Create the panel once and only swap the chart it shows afterwards.
+		seriesChart.setChart(finaLineChart, this.analysisType, viewerState);
+		seriesChart.show(givenPanel);
 	}
 
 	/**
@@ -145,20 +146,13 @@ public class ViewerLine extends AbstractViewer{
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisOne() {
-		XYSeries cO2Series = createXYSeries(viewerState.get(0), 
-				"CO2 Emissions (metric tons/capita)");
-		XYSeries energySeries = createXYSeries(viewerState.get(1),
-				"Energy Use (kg of oil/capita)");
-		XYSeries pm25Series = createXYSeries(viewerState.get(2),
-				"PM2.5 (micrograms/m^3)");
-		
-		XYSeriesCollection dataset = new XYSeriesCollection();
-		XYSeriesCollection dataset2 = new XYSeriesCollection();
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		SeriesDataset dataset2 = seriesChart.createDataset(viewerState);
 		
-		dataset.addSeries(cO2Series);
-		dataset.addSeries(pm25Series);
+		dataset.addSeries(0, "CO2 Emissions (metric tons/capita)");
+		dataset.addSeries(2, "PM2.5 (micrograms/m^3)");
 		
-		dataset2.addSeries(energySeries);
+		dataset2.addSeries(1, "Energy Use (kg of oil/capita)");
 		
 		JFreeChart lineChart = ChartFactory.createXYLineChart("CO2 Emissions vs"
 				+ " Energy Use vs PM2.5 Air Pollution", "Year", "", dataset,
@@ -209,16 +203,11 @@ public class ViewerLine extends AbstractViewer{
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisTwo(){
-		XYSeries pm25Series = createXYSeries(viewerState.get(0),
-				"PM2.5 (micrograms/m^3)");
-		XYSeries forestAreaSeries = createXYSeries(viewerState.get(1),
-				"Forest Area (% of Land)");
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		SeriesDataset dataset2 = seriesChart.createDataset(viewerState);
 		
-		XYSeriesCollection dataset = new XYSeriesCollection();
-		XYSeriesCollection dataset2 = new XYSeriesCollection();
-		
-		dataset.addSeries(pm25Series);
-		dataset2.addSeries(forestAreaSeries);
+		dataset.addSeries(0, "PM2.5 (micrograms/m^3)");
+		dataset2.addSeries(1, "Forest Area (% of Land)");
 		
 		JFreeChart lineChart = ChartFactory.createXYLineChart("PM2.5 Air "
 				+ "Pollution vs Forest Area", "Year", "", dataset,
@@ -267,12 +256,9 @@ public class ViewerLine extends AbstractViewer{
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisThree() {
-		XYSeries ratioCO2GDP = createXYSeries(viewerState.get(0),
-				"CO2 / GDP (metric tons/US$)");
-		
-		XYSeriesCollection dataset = new XYSeriesCollection();
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
 		
-		dataset.addSeries(ratioCO2GDP);
+		dataset.addSeries(0, "CO2 / GDP (metric tons/US$)");
 		
 		JFreeChart lineChart = ChartFactory.createXYLineChart("Ratio of CO2 "
 				+ "Emissions and GDP per Capita", "Year", "", dataset,
@@ -311,11 +297,8 @@ public class ViewerLine extends AbstractViewer{
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisFour() {
-		XYSeries avgForestAreaSeries = createXYSeries(viewerState.get(0),
-				"Forest Area (% of Land)");
-		
-		XYSeriesCollection dataset = new XYSeriesCollection();
-		dataset.addSeries(avgForestAreaSeries);
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		dataset.addSeries(0, "Forest Area (% of Land)");
 		
 		JFreeChart lineChart = ChartFactory.createXYLineChart("Average Forest"
 				+ " Area", "Year", "", dataset,
@@ -354,11 +337,8 @@ public class ViewerLine extends AbstractViewer{
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisFive() {
-		XYSeries avgGovExpSeries = createXYSeries(viewerState.get(0),
-				"Government Expenditure (% of GDP)");
-		
-		XYSeriesCollection dataset = new XYSeriesCollection();
-		dataset.addSeries(avgGovExpSeries);
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		dataset.addSeries(0, "Government Expenditure (% of GDP)");
 		
 		JFreeChart lineChart = ChartFactory.createXYLineChart("Average Gov."
 				+ " Expenditure on Education", "Year", "", dataset,
@@ -396,15 +376,10 @@ public class ViewerLine extends AbstractViewer{
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisSix() {
-		XYSeries hospBedsSeries = createXYSeries(viewerState.get(0),
-				"Hospital Beds Per 1000");
-		XYSeries healthExpSeries = createXYSeries(viewerState.get(1), 
-				"Health Expenditure Per 1000 (US$)");
-		
-		XYSeriesCollection dataset = new XYSeriesCollection();
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
 		
-		dataset.addSeries(hospBedsSeries);
-		dataset.addSeries(healthExpSeries);
+		dataset.addSeries(0, "Hospital Beds Per 1000");
+		dataset.addSeries(1, "Health Expenditure Per 1000 (US$)");
 		
 		JFreeChart lineChart = ChartFactory.createXYLineChart("Ratio Of Hospital Beds"
 				+ " and Current Health Expenditure per 1000", "Year", "", dataset,
@@ -443,16 +418,11 @@ public class ViewerLine extends AbstractViewer{
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisSeven() {
-		XYSeries currHealthExpSeries = createXYSeries(viewerState.get(0),
-				"Current Health Expenditure Per Capita (US$)");
-		XYSeries mortRateSeries = createXYSeries(viewerState.get(1), 
-				"Mortality Rate Per 1000 Births");
-		
-		XYSeriesCollection dataset = new XYSeriesCollection();
-		XYSeriesCollection dataset2 = new XYSeriesCollection();
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		SeriesDataset dataset2 = seriesChart.createDataset(viewerState);
 		
-		dataset.addSeries(currHealthExpSeries);
-		dataset2.addSeries(mortRateSeries);
+		dataset.addSeries(0, "Current Health Expenditure Per Capita (US$)");
+		dataset2.addSeries(1, "Mortality Rate Per 1000 Births");
 		
 		JFreeChart lineChart = ChartFactory.createXYLineChart("Current Health"
 				+ " Expenditure per Capita vs Mortality Rate", "Year", "", dataset,
@@ -502,12 +472,10 @@ public class ViewerLine extends AbstractViewer{
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisEight() {
-		XYSeries ratioGovExpHealthSeries = createXYSeries(viewerState.get(0),
-				"Gov. Expenditure (% of GDP)/Health Expenditure (% of GDP)");
-		
-		XYSeriesCollection dataset = new XYSeriesCollection();
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
 		
-		dataset.addSeries(ratioGovExpHealthSeries);
+		dataset.addSeries(0,
+				"Gov. Expenditure (% of GDP)/Health Expenditure (% of GDP)");
 		
 		JFreeChart lineChart = ChartFactory.createXYLineChart("Ratio of Gov. "
 				+ "Expenditure on Education and Current Health Expenditure", 
@@ -539,35 +507,16 @@ public class ViewerLine extends AbstractViewer{
 		return lineChart;
 	}
 	
-	/**
-	 * This function is used to produce the XY Series data points based on 
-	 * the acquired data.
-	 *
-	 * @param dataList The data series acquired from the World-Bank.
-	 * @param seriesTitle The name of the data series being plotted.
-	 * @return A XYSeries object depicting the data.
-	 */
-	private XYSeries createXYSeries(ArrayList<DataContainer> dataList,
-			String seriesTitle) {
-		XYSeries tempSeries = new XYSeries(seriesTitle);
-		
-		for(int i = 0; i < dataList.size(); i++) {
-			tempSeries.add(dataList.get(i).getYear(),dataList.get(i).getValue());
-		}
-		
-		return tempSeries;
-	}
-	
 	private
 	/**
 	 * Reference to the model being used to store the processed data.
 	 */
-	static Model modelRef;
+	Model modelRef;
 	
 	/**
-	 * Reference to the concatenated data received from the World-Bank.
+	 * Reference to the snapshot of the data received from the World-Bank.
 	 */
-	ArrayList <ArrayList<DataContainer>> viewerState;
+	ModelSnapshot viewerState;
 	
 	/**
 	 * Reference to the name of the viewer.
@@ -588,4 +537,9 @@ public class ViewerLine extends AbstractViewer{
 	 * Reference to the end year of the analysis being executed.
 	 */
 	int endYear;
+	
+	/**
+	 * Reference to the chart kept for the session and the datasets it plots.
+	 */
+	SeriesChart seriesChart;
 }
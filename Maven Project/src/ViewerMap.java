@@ -32,8 +32,8 @@ public class ViewerMap {
 	 * @param key The key index value to retrieve from the map.
 	 * @return The mapping viewer assigned to the key.
 	 */
-	public static AbstractViewer getViewer(String key) {
-			return map.get(key);
+	public AbstractViewer getViewer(String key) {
+		return map.get(key);
 	}
 		
 	private
@@ -41,5 +41,5 @@ public class ViewerMap {
 	 * A mapping of all possible types of viewers to a name string for the main
 	 * UI to use for invoking the appropriate viewers.
 	 */
-	static HashMap<String, AbstractViewer> map;
+	final HashMap<String, AbstractViewer> map;
 }
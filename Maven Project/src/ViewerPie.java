@@ -1,6 +1,5 @@
 import java.awt.Color;
 import java.awt.Dimension;
-import java.util.ArrayList;
 
 import javax.swing.BorderFactory;
 import javax.swing.JPanel;
@@ -83,6 +82,14 @@ public class ViewerPie extends AbstractViewer {
 	 * @param givenPanel The panel on which to display the viewer.
 	 */
 	private void createPieChart(JPanel givenPanel) {
+		// Keep the chart built for this analysis and refill its data in place.
+		if (chartPanel != null && renderedAnalysisType == this.analysisType) {
+			refillSeries();
+			showChartPanel(givenPanel);
+			return;
+		}
+		
+		plottedDataset = null;
 		JFreeChart pieChart = null;
 
 		// Determine Analysis Type.
@@ -129,11 +136,19 @@ public class ViewerPie extends AbstractViewer {
 					+ "determine analysis type!");
 		}
 		
-		ChartPanel chartPanel = new ChartPanel(pieChart);
-		chartPanel.setPreferredSize(new Dimension(400, 300));
-		chartPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
-		chartPanel.setBackground(Color.white);
-		givenPanel.add(chartPanel);
+		// Create the panel once and only swap the chart it shows afterwards.
+		if (chartPanel == null) {
+			chartPanel = new ChartPanel(pieChart);
+			chartPanel.setPreferredSize(new Dimension(400, 300));
+			chartPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+			chartPanel.setBackground(Color.white);
+		} else {
+			chartPanel.setChart(pieChart);
+		}
+		
+		renderedAnalysisType = this.analysisType;
+		renderedVersion = viewerState.getVersion();
+		showChartPanel(givenPanel);
 	}
 	
 	/**
@@ -143,11 +158,7 @@ public class ViewerPie extends AbstractViewer {
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisFour() {
-		DefaultCategoryDataset avgForestAreaDataset = 
-				new DefaultCategoryDataset();
-		
-		// Add values to these datasets.
-		addDatasetPie(avgForestAreaDataset,viewerState.get(0),
+		DefaultCategoryDataset avgForestAreaDataset = createPieDataset(
 				"Forest Area (% of Land)");			
 	
 		JFreeChart pieChart = ChartFactory.createMultiplePieChart("Average Forest Area",
@@ -163,10 +174,7 @@ public class ViewerPie extends AbstractViewer {
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisFive() {
-		DefaultCategoryDataset avgGovExpDataset = new DefaultCategoryDataset();
-		
-		// Add values to these datasets.
-		addDatasetPie(avgGovExpDataset,viewerState.get(0),
+		DefaultCategoryDataset avgGovExpDataset = createPieDataset(
 				"Government Expenditure (% of GDP)");			
 	
 		JFreeChart pieChart = ChartFactory.createMultiplePieChart("Average Gov."
@@ -177,6 +185,51 @@ public class ViewerPie extends AbstractViewer {
 	}
 
 	
+	/**
+	 * This function is used to place the chart panel onto the given panel,
+	 * unless it is already shown there.
+	 *
+	 * @param givenPanel The panel on which to display the viewer.
+	 */
+	private void showChartPanel(JPanel givenPanel) {
+		if (chartPanel.getParent() != givenPanel) {
+			givenPanel.add(chartPanel);
+		}
+	}
+	
+	/**
+	 * This function is used to refill the plotted dataset in place with the
+	 * latest data, holding back its change events until it has been filled so
+	 * that the chart is redrawn only once.
+	 */
+	private void refillSeries() {
+		if (renderedVersion == viewerState.getVersion()) { return; }
+		
+		if (plottedDataset != null) {
+			plottedDataset.setNotify(false);
+			plottedDataset.clear();
+			addDatasetPie(plottedDataset, viewerState.get(0), plottedTitle);
+			plottedDataset.setNotify(true);
+		}
+		
+		renderedVersion = viewerState.getVersion();
+	}
+	
+	/**
+	 * This function is used to create the dataset plotted on the Pie Chart
+	 * from the first data series acquired.
+	 *
+	 * @param seriesTitle The name of the data series being plotted.
+	 * @return A dataset holding the data series.
+	 */
+	private DefaultCategoryDataset createPieDataset(String seriesTitle) {
+		plottedDataset = new DefaultCategoryDataset();
+		plottedTitle = seriesTitle;
+		addDatasetPie(plottedDataset, viewerState.get(0), seriesTitle);
+		
+		return plottedDataset;
+	}
+	
 	/**
 	 * This function is used to populate the Dataset data points based on 
 	 * the acquired data.
@@ -187,10 +240,10 @@ public class ViewerPie extends AbstractViewer {
 	 * @return A TimeSeries object depicting the data.
 	 */
 	private void addDatasetPie(DefaultCategoryDataset givenDataset, 
-			ArrayList<DataContainer> dataList, String seriesTitle) {
+			Series dataList, String seriesTitle) {
 		for(int i = 0; i < dataList.size(); i++) {
-			givenDataset.addValue(dataList.get(i).getValue(),
-					Integer.toString(dataList.get(i).getYear()),seriesTitle);
+			givenDataset.addValue(dataList.getValue(i),
+					Integer.toString(dataList.getYear(i)),seriesTitle);
 		}
 	}
 		
@@ -198,12 +251,12 @@ public class ViewerPie extends AbstractViewer {
 	/**
 	 * Reference to the model being used to store the processed data.
 	 */
-	static Model modelRef;
+	Model modelRef;
 	
 	/**
-	 * Reference to the concatenated data received from the World-Bank.
+	 * Reference to the snapshot of the data received from the World-Bank.
 	 */
-	ArrayList <ArrayList<DataContainer>> viewerState;
+	ModelSnapshot viewerState;
 	
 	/**
 	 * Reference to the name of the viewer.
@@ -224,4 +277,29 @@ public class ViewerPie extends AbstractViewer {
 	 * Reference to the end year of the analysis being executed.
 	 */
 	int endYear;
+	
+	/**
+	 * Reference to the panel showing the chart, kept for the whole session.
+	 */
+	ChartPanel chartPanel;
+	
+	/**
+	 * Reference to the version of the data the chart currently shows.
+	 */
+	long renderedVersion;
+	
+	/**
+	 * Reference to the type of analysis the chart was built for.
+	 */
+	int renderedAnalysisType;
+	
+	/**
+	 * Reference to the dataset plotted on the chart, null if there is none.
+	 */
+	DefaultCategoryDataset plottedDataset;
+	
+	/**
+	 * Reference to the name of the data series in the plotted dataset.
+	 */
+	String plottedTitle;
 }
@@ -1,5 +1,6 @@
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.Arrays;
 import javax.swing.BorderFactory;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
@@ -77,64 +78,68 @@ public class ViewerReport extends AbstractViewer {
 	 * @param givenPanel The panel on which to display the viewer.
 	 */
 	private void createReport(JPanel givenPanel) {
-		JTextArea report = new JTextArea();
-		report.setEditable(false);
-		report.setPreferredSize(null);
-		report.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
-		report.setBackground(Color.white);
-		String reportMessage = makeReportMessage(viewerState);	
-		report.setText(reportMessage);
-		JScrollPane outputScrollPane = new JScrollPane(report);
-		outputScrollPane.setPreferredSize(null);
-		givenPanel.add(outputScrollPane);
+		// Create the text area once and only replace its text afterwards.
+		if (outputScrollPane == null) {
+			report = new JTextArea();
+			report.setEditable(false);
+			report.setPreferredSize(null);
+			report.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+			report.setBackground(Color.white);
+			outputScrollPane = new JScrollPane(report);
+			outputScrollPane.setPreferredSize(null);
+			renderedVersion = -1;
+		}
+		
+		if (renderedVersion != viewerState.getVersion()) {
+			String reportMessage = makeReportMessage(viewerState);	
+			report.setText(reportMessage);
+			renderedVersion = viewerState.getVersion();
+		}
+		
+		if (outputScrollPane.getParent() != givenPanel) {
+			givenPanel.add(outputScrollPane);
+		}
 	}
 	
 	/**
 	 * This function is used to create the Report message based on the current
-	 * analysis type.
+	 * analysis type. It is left open to the package so that it can be
+	 * measured on its own.
 	 *
 	 * @param mainDataList All the necessary dataseries obtained by WorldBank.
 	 * @return A String containing the entire Report message.
 	 */
-	private String makeReportMessage(ArrayList <ArrayList<DataContainer>> mainDataList) {
+	String makeReportMessage(ModelSnapshot mainDataList) {
 		ArrayList<String> tempSeriesNames = getReportSeriesNames();
 		
-		// String array that contains respective title for each analysis type.
-		String[] titleArray = {"CO2 Emissions vs Energy Use vs PM2.5 Air Pollution",
-				"PM2.5 Air Pollution vs Forest Area",
-				"Ratio of CO2 Emissions & GDP per Capita",
-				"Average Forest Area",
-				"Average Gov. Expenditure on Education",
-				"Ratio Of Hospital Beds and Current Health Expenditure per 1000",
-				"Current Health Expenditure per Capita vs Mortality Rate",
-				"Ratio of Gov. Expenditure on Education & Current Health Expenditure"};
-		
 		// Constructing final message that Report viewer will plot.
-		String finalMsg = titleArray[this.analysisType -1] + "\n" + 
-				"========================================="+ "\n";
+		StringBuilder finalMsg = new StringBuilder(reportCharsPerYear
+				* (mainDataList.size() + 1)
+				* Math.max(this.endYear - this.startYear + 1, 1));
+		finalMsg.append(AnalysisMap.getTitle(this.analysisType)).append('\n')
+				.append("=========================================").append('\n');
 		
 		for (int count = this.endYear; count >= this.startYear; count--) {
-			finalMsg = finalMsg + "Year " + Integer.toString(count) + ":\n";
+			finalMsg.append("Year ").append(count).append(":\n");
 			
-			// Traverse each array list in dataList and see if it contains data
-			// for current year (count).
+			// Look up the current year (count) in each series of dataList.
 			for (int i = 0; i < mainDataList.size(); i++) {
-				for (int j = 0; j < mainDataList.get(i).size(); j++) {
-					if (mainDataList.get(i).get(j).getYear() == count) {
-						finalMsg = finalMsg + "\t" + 
-						tempSeriesNames.get(i) + " => " + 
-						Float.toString(mainDataList.get(i).get(j).getValue()) +
-						"\n";
-					}
+				Series series = mainDataList.get(i);
+				int index = series.indexOfYear(count);
+				
+				if (index >= 0) {
+					finalMsg.append('\t').append(tempSeriesNames.get(i))
+							.append(" => ").append((float) series.getValue(index))
+							.append('\n');
 				}
 			}
 			
 			// Newline after each year.
-			finalMsg = finalMsg + "\n";
+			finalMsg.append('\n');
 		}
 		
 		tempSeriesNames = null;
-		return finalMsg;
+		return finalMsg.toString();
 	}
 
 	/**
@@ -144,49 +149,8 @@ public class ViewerReport extends AbstractViewer {
 	 * @return An ArrayList of Strings containing respective series titles.
 	 */
 	private ArrayList<String> getReportSeriesNames() {
-		ArrayList<String> seriesNames = new ArrayList<String>();
-		
-		// Determine Analysis Type.
-		if (this.analysisType == 1) {
-			seriesNames.add("CO2 Emissions (metric tons/capita)");
-			seriesNames.add("Energy Use (kg of oil/capita)");
-			seriesNames.add("PM2.5 (micrograms/m^3)");
-		}
-		
-		else if (this.analysisType == 2) {
-			seriesNames.add("PM2.5 (micrograms/m^3)");
-			seriesNames.add("Forest Area (% of Land)");
-		}
-		
-		else if (this.analysisType == 3) {
-			seriesNames.add("CO2 / GDP (metric tons/US$)");
-		}
-		
-		else if (this.analysisType == 4) {
-			seriesNames.add("Forest Area (% of Land)");
-		}
-		
-		else if (this.analysisType == 5) {
-			seriesNames.add("Government Expenditure (% of GDP)");
-		}
-		
-		else if (this.analysisType == 6) {
-			seriesNames.add("Hospital Beds/1000");
-			seriesNames.add("Health Expenditure/1000 (US$)");
-		}
-		
-		else if(this.analysisType == 7) {
-			seriesNames.add("Current Health Expenditure/Capita (US$)");
-			seriesNames.add("Mortality Rate/1000 Births");
-		}
-		
-		else if(this.analysisType == 8) {
-			seriesNames.add("Gov. Expenditure/Health Expenditure");
-		}
-		
-		else {
-			seriesNames.add("Unknown");
-		}
+		ArrayList<String> seriesNames = new ArrayList<String>(
+				Arrays.asList(AnalysisMap.getSeriesNames(this.analysisType)));
 		
 		return seriesNames;
 	}
@@ -195,12 +159,18 @@ public class ViewerReport extends AbstractViewer {
 	/**
 	 * Reference to the model being used to store the processed data.
 	 */
-	static Model modelRef;
+	Model modelRef;
+	
+	/**
+	 * Reference to the snapshot of the data received from the World-Bank.
+	 */
+	ModelSnapshot viewerState;
 	
 	/**
-	 * Reference to the concatenated data received from the World-Bank.
+	 * Reference to the approximate number of characters written for each
+	 * series in a year of the report.
 	 */
-	ArrayList <ArrayList<DataContainer>> viewerState;
+	static final int reportCharsPerYear = 48;
 	
 	/**
 	 * Reference to the name of the viewer.
@@ -221,4 +191,19 @@ public class ViewerReport extends AbstractViewer {
 	 * Reference to the end year of the analysis being executed.
 	 */
 	int endYear;
+	
+	/**
+	 * Reference to the text area showing the report, kept for the session.
+	 */
+	JTextArea report;
+	
+	/**
+	 * Reference to the scroll pane holding the report.
+	 */
+	JScrollPane outputScrollPane;
+	
+	/**
+	 * Reference to the version of the data the report currently shows.
+	 */
+	long renderedVersion;
 }
@@ -1,19 +1,12 @@
 import java.awt.Color;
-import java.awt.Dimension;
 import java.awt.Font;
-import java.util.ArrayList;
-import javax.swing.BorderFactory;
 import javax.swing.JPanel;
-import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
-import org.jfree.data.time.TimeSeries;
-import org.jfree.data.time.TimeSeriesCollection;
-import org.jfree.data.time.Year;
 
 /**
  * This class is used to design a Scatter Plot viewer by extending and 
@@ -33,6 +26,7 @@ public class ViewerScatter extends AbstractViewer {
 	public ViewerScatter(Model givenModelRef, int givenAnalysisType) { 
 		modelRef = givenModelRef;
 		this.analysisType = givenAnalysisType;
+		seriesChart = new SeriesChart(true);
 	}
 	
 	@Override
@@ -87,6 +81,14 @@ public class ViewerScatter extends AbstractViewer {
 	 * @param givenPanel The panel on which to display the viewer.
 	 */
 	private void createScatterPlot(JPanel givenPanel) {
+		// Keep the chart built for this analysis and refill its data in place.
+		if (seriesChart.isBuiltFor(this.analysisType)) {
+			seriesChart.refresh(viewerState);
+			seriesChart.show(givenPanel);
+			return;
+		}
+		
+		seriesChart.clearDatasets();
 		JFreeChart finalScatterChart = null;
 		
 		// Determine Analysis Type.
@@ -127,12 +129,9 @@ public class ViewerScatter extends AbstractViewer {
 					+ " analysis type!");
 		}
 		
-		ChartPanel chartPanel = new ChartPanel(finalScatterChart);
-		chartPanel.setPreferredSize(new Dimension(400, 300));
-		chartPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
-		chartPanel.setBackground(Color.white);
-		givenPanel.add(chartPanel);
-		
+		// Create the panel once and only swap the chart it shows afterwards.
+		seriesChart.setChart(finalScatterChart, this.analysisType, viewerState);
+		seriesChart.show(givenPanel);
 	}
 	
 	/**
@@ -142,19 +141,12 @@ public class ViewerScatter extends AbstractViewer {
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisOne() {
-		TimeSeries cO2Series = createTimeSeries(viewerState.get(0),
-				"CO2 Emissions (metric tons/capita)");
-		TimeSeries energyUseSeries = createTimeSeries(viewerState.get(1),
-				"Energy Use (kg of oil/capita)");
-		TimeSeries pm25Series = createTimeSeries(viewerState.get(2),
-				"PM2.5 (micrograms/m^3)");
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		SeriesDataset dataset2 = seriesChart.createDataset(viewerState);
 		
-		TimeSeriesCollection dataset = new TimeSeriesCollection();
-		TimeSeriesCollection dataset2 = new TimeSeriesCollection();
-		
-		dataset.addSeries(cO2Series);
-		dataset.addSeries(pm25Series);
-		dataset2.addSeries(energyUseSeries);
+		dataset.addSeries(0, "CO2 Emissions (metric tons/capita)");
+		dataset.addSeries(2, "PM2.5 (micrograms/m^3)");
+		dataset2.addSeries(1, "Energy Use (kg of oil/capita)");
 		
 		XYPlot plot = new XYPlot();
 		XYItemRenderer itemrenderer1 = new XYLineAndShapeRenderer(false, true);
@@ -186,15 +178,11 @@ public class ViewerScatter extends AbstractViewer {
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisTwo() {
-		TimeSeries pm25Series = createTimeSeries(viewerState.get(0),
-				"PM2.5 (micrograms/m^3)");
-		TimeSeries forestAreaSeries = createTimeSeries(viewerState.get(1),
-				"Forest Area (% of Land)");
 
-		TimeSeriesCollection dataset = new TimeSeriesCollection();
-		TimeSeriesCollection dataset2 = new TimeSeriesCollection();
-		dataset.addSeries(pm25Series);
-		dataset2.addSeries(forestAreaSeries);
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		SeriesDataset dataset2 = seriesChart.createDataset(viewerState);
+		dataset.addSeries(0, "PM2.5 (micrograms/m^3)");
+		dataset2.addSeries(1, "Forest Area (% of Land)");
 		
 		XYPlot plot = new XYPlot();
 		XYItemRenderer itemrenderer1 = new XYLineAndShapeRenderer(false, true);
@@ -227,11 +215,8 @@ public class ViewerScatter extends AbstractViewer {
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisThree() {
-		TimeSeries ratioCO2GDP = createTimeSeries(viewerState.get(0),
-				"CO2 / GDP (metric tons/US$)");
-		
-		TimeSeriesCollection dataset = new TimeSeriesCollection();
-		dataset.addSeries(ratioCO2GDP);
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		dataset.addSeries(0, "CO2 / GDP (metric tons/US$)");
 		
 		XYPlot plot = new XYPlot();
 		XYItemRenderer itemrenderer1 = new XYLineAndShapeRenderer(false, true);
@@ -257,11 +242,8 @@ public class ViewerScatter extends AbstractViewer {
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisFour() {
-		TimeSeries avgForestAreaSeries = createTimeSeries(viewerState.get(0),
-				"Forest Area (% of Land)");
-		
-		TimeSeriesCollection dataset = new TimeSeriesCollection();
-		dataset.addSeries(avgForestAreaSeries);
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		dataset.addSeries(0, "Forest Area (% of Land)");
 				
 		XYPlot plot = new XYPlot();
 		XYItemRenderer itemrenderer1 = new XYLineAndShapeRenderer(false, true);
@@ -287,11 +269,8 @@ public class ViewerScatter extends AbstractViewer {
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisFive() {
-		TimeSeries avgGovExpSeries = createTimeSeries(viewerState.get(0),
-				"Government Expenditure (% of GDP)");
-		
-		TimeSeriesCollection dataset = new TimeSeriesCollection();
-		dataset.addSeries(avgGovExpSeries);
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		dataset.addSeries(0, "Government Expenditure (% of GDP)");
 		
 		XYPlot plot = new XYPlot();
 		XYItemRenderer itemrenderer1 = new XYLineAndShapeRenderer(false, true);
@@ -317,14 +296,9 @@ public class ViewerScatter extends AbstractViewer {
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisSix() {
-		TimeSeries hospBedsSeries = createTimeSeries(viewerState.get(0),
-				"Hospital Beds Per 1000");
-		TimeSeries healthExpSeries = createTimeSeries(viewerState.get(1),
-				"Health Expenditure Per 1000 (US$)");
-		
-		TimeSeriesCollection dataset = new TimeSeriesCollection();
-		dataset.addSeries(hospBedsSeries);
-		dataset.addSeries(healthExpSeries);
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		dataset.addSeries(0, "Hospital Beds Per 1000");
+		dataset.addSeries(1, "Health Expenditure Per 1000 (US$)");
 		
 		XYPlot plot = new XYPlot();
 		XYItemRenderer itemrenderer1 = new XYLineAndShapeRenderer(false, true);
@@ -351,16 +325,12 @@ public class ViewerScatter extends AbstractViewer {
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisSeven() {
-		TimeSeries currHealthExpSeries = createTimeSeries(viewerState.get(0),
-				"Current Health Expenditure Per Capita (US$)");
-		TimeSeries mortRateSeries = createTimeSeries(viewerState.get(1), 
-				"Mortality Rate Per 1000");
 
-		TimeSeriesCollection dataset = new TimeSeriesCollection();
-		TimeSeriesCollection dataset2 = new TimeSeriesCollection();
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		SeriesDataset dataset2 = seriesChart.createDataset(viewerState);
 		
-		dataset2.addSeries(currHealthExpSeries);
-		dataset.addSeries(mortRateSeries);
+		dataset2.addSeries(0, "Current Health Expenditure Per Capita (US$)");
+		dataset.addSeries(1, "Mortality Rate Per 1000");
 		
 		XYPlot plot = new XYPlot();
 		XYItemRenderer itemrenderer1 = new XYLineAndShapeRenderer(false, true);
@@ -393,12 +363,10 @@ public class ViewerScatter extends AbstractViewer {
 	 * @return A JFreeChart plot containing the data series for the analysis.
 	 */
 	private JFreeChart plotAnalysisEight() {
-		TimeSeries govExpHealthExpSeries = createTimeSeries(viewerState.get(0),
+		SeriesDataset dataset = seriesChart.createDataset(viewerState);
+		dataset.addSeries(0,
 				"Gov. Expenditure (% of GDP)/Health Expenditure (% of GDP)");
 		
-		TimeSeriesCollection dataset = new TimeSeriesCollection();
-		dataset.addSeries(govExpHealthExpSeries);
-		
 		XYPlot plot = new XYPlot();
 		XYItemRenderer itemrenderer1 = new XYLineAndShapeRenderer(false, true);
 
@@ -417,35 +385,16 @@ public class ViewerScatter extends AbstractViewer {
 		return scatterChart;
 	}
 	
-	/**
-	 * This function is used to produce the Time Series data points based on 
-	 * the acquired data.
-	 *
-	 * @param dataList The data series acquired from the World-Bank.
-	 * @param seriesTitle The name of the data series being plotted.
-	 * @return A TimeSeries object depicting the data.
-	 */
-	private TimeSeries createTimeSeries(ArrayList<DataContainer> dataList,
-			String seriesTitle) {
-		TimeSeries tempSeries = new TimeSeries(seriesTitle);
-		for (int i = 0; i < dataList.size(); i++) {
-			tempSeries.add(new Year(dataList.get(i).getYear()),
-					dataList.get(i).getValue());
-		}
-		
-		return tempSeries;
-	}
-		
 	private
 	/**
 	 * Reference to the model being used to store the processed data.
 	 */
-	static Model modelRef;
+	Model modelRef;
 	
 	/**
-	 * Reference to the concatenated data received from the World-Bank.
+	 * Reference to the snapshot of the data received from the World-Bank.
 	 */
-	ArrayList <ArrayList<DataContainer>> viewerState;
+	ModelSnapshot viewerState;
 	
 	/**
 	 * Reference to the name of the viewer.
@@ -466,4 +415,9 @@ public class ViewerScatter extends AbstractViewer {
 	 * Reference to the end year of the analysis being executed.
 	 */
 	int endYear;
+	
+	/**
+	 * Reference to the chart kept for the session and the datasets it plots.
+	 */
+	SeriesChart seriesChart;
 }
@@ -0,0 +1,377 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * This class is used to import the bulk download of the World Development
+ * Indicators, as a CSV file or the zip file holding it, into a columnar store
+ * that the application serves data from without the network. The file is
+ * streamed twice, once to learn the countries, indicators and years and once
+ * to fill in the values, so that only the store itself is ever held in full.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see ColumnarStore
+ */
+public class WdiImporter {
+	/**
+	 * Main function for importing the file given on the command line.
+	 *
+	 * @param args Command line arguments passed to the importer.
+	 */
+	public static void main(String[] args) {
+		WdiImporter importer;
+		
+		try {
+			importer = new WdiImporter(args);
+		} catch (IllegalArgumentException err) {
+			System.err.println(err.getMessage());
+			System.err.println(usage);
+			System.exit(2);
+			return;
+		}
+		
+		try {
+			importer.run();
+		} catch (IOException err) {
+			err.printStackTrace();
+			System.exit(1);
+		}
+	}
+	
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param args Command line arguments naming the file to import.
+	 */
+	public WdiImporter(String[] args) {
+		outputFile = ColumnarStore.getDefaultFile();
+		valueBytes = Double.BYTES;
+		
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("--float")) {
+				valueBytes = Float.BYTES;
+			} else if (args[i].equals("--out")) {
+				if (i + 1 >= args.length) {
+					throw new IllegalArgumentException("Missing value for --out");
+				}
+				
+				outputFile = Paths.get(args[++i]);
+			} else if (inputFile == null && !args[i].startsWith("--")) {
+				inputFile = Paths.get(args[i]);
+			} else {
+				throw new IllegalArgumentException("Unknown option " + args[i]);
+			}
+		}
+		
+		if (inputFile == null) {
+			throw new IllegalArgumentException("No file given to import");
+		}
+	}
+	
+	/**
+	 * This function is used to import the file into the store.
+	 *
+	 * @throws IOException If the file can't be read or the store written.
+	 */
+	public void run() throws IOException {
+		long startedAt = System.currentTimeMillis();
+		var countries = new LinkedHashMap<String, Integer>();
+		var indicators = new LinkedHashMap<String, Integer>();
+		
+		// Learn every country, indicator and year before writing anything.
+		try (BufferedReader reader = openInput()) {
+			Columns columns = readHeader(reader);
+			String line;
+			
+			while ((line = reader.readLine()) != null) {
+				List<String> fields = parseLine(line);
+				
+				if (fields.size() <= columns.indicator) { continue; }
+				
+				countries.putIfAbsent(fields.get(columns.country), countries.size());
+				indicators.putIfAbsent(fields.get(columns.indicator),
+						indicators.size());
+			}
+			
+			firstYear = columns.firstYear;
+			yearCount = columns.lastYear - columns.firstYear + 1;
+		}
+		
+		var writer = ColumnarStore.create(outputFile, firstYear, yearCount,
+				new ArrayList<String>(countries.keySet()),
+				new ArrayList<String>(indicators.keySet()), valueBytes);
+		long values = 0;
+		
+		// Fill in the values in the order they come.
+		try (BufferedReader reader = openInput()) {
+			Columns columns = readHeader(reader);
+			String line;
+			
+			while ((line = reader.readLine()) != null) {
+				List<String> fields = parseLine(line);
+				
+				if (fields.size() <= columns.indicator) { continue; }
+				
+				int countryId = countries.get(fields.get(columns.country));
+				int indicatorId = indicators.get(fields.get(columns.indicator));
+				
+				for (int i = 0; i < columns.years.length; i++) {
+					int column = columns.yearColumns[i];
+					
+					if (column >= fields.size() || fields.get(column).isEmpty()) {
+						continue;
+					}
+					
+					try {
+						writer.put(countryId, indicatorId,
+								columns.years[i] - firstYear,
+								Double.parseDouble(fields.get(column)));
+						values++;
+					} catch (NumberFormatException err) {
+						// Leave a value that can't be read as missing.
+					}
+				}
+			}
+			
+			writer.commit();
+		} catch (IOException | RuntimeException err) {
+			writer.abort();
+			throw err;
+		}
+		
+		System.out.println("Imported " + values + " values for "
+				+ countries.size() + " countries and " + indicators.size()
+				+ " indicators from " + firstYear + " to "
+				+ (firstYear + yearCount - 1) + " into " + outputFile + " in "
+				+ (System.currentTimeMillis() - startedAt) + " ms");
+	}
+	
+	/**
+	 * This function is used to open the file to import for reading. For a
+	 * zip file, the largest CSV file it holds is read, which is the one
+	 * holding the data rather than the notes on the countries and series.
+	 *
+	 * @return A reader positioned at the start of the data.
+	 * @throws IOException If the file can't be opened.
+	 */
+	private BufferedReader openInput() throws IOException {
+		if (!inputFile.toString().toLowerCase().endsWith(".zip")) {
+			return Files.newBufferedReader(inputFile, StandardCharsets.UTF_8);
+		}
+		
+		ZipFile zip = new ZipFile(inputFile.toFile());
+		ZipEntry data = null;
+		
+		for (var entries = zip.entries(); entries.hasMoreElements();) {
+			ZipEntry entry = entries.nextElement();
+			
+			if (entry.getName().toLowerCase().endsWith(".csv")
+					&& (data == null || entry.getSize() > data.getSize())) {
+				data = entry;
+			}
+		}
+		
+		if (data == null) {
+			zip.close();
+			throw new IOException("No CSV file found in " + inputFile);
+		}
+		
+		// Close the zip file along with the reader.
+		return new BufferedReader(new InputStreamReader(
+				zip.getInputStream(data), StandardCharsets.UTF_8)) {
+			@Override
+			public void close() throws IOException {
+				try {
+					super.close();
+				} finally {
+					zip.close();
+				}
+			}
+		};
+	}
+	
+	/**
+	 * This function is used to find the header of the data, skipping the
+	 * lines some downloads put before it, and learn its columns.
+	 *
+	 * @param reader The reader positioned at the start of the file.
+	 * @return The columns of the data.
+	 * @throws IOException If the file can't be read or holds no header.
+	 */
+	private Columns readHeader(BufferedReader reader) throws IOException {
+		String line;
+		
+		while ((line = reader.readLine()) != null) {
+			// Drop the byte order mark some downloads start with.
+			if (line.startsWith("\uFEFF")) { line = line.substring(1); }
+			
+			List<String> fields = parseLine(line);
+			
+			if (!fields.isEmpty() && fields.get(0).equals("Country Name")) {
+				return new Columns(fields);
+			}
+		}
+		
+		throw new IOException("No header found in " + inputFile);
+	}
+	
+	/**
+	 * This function is used to split a line of the file into its fields,
+	 * taking in the quotes around fields holding commas.
+	 *
+	 * @param line The line to split.
+	 * @return The fields of the line.
+	 */
+	static List<String> parseLine(String line) {
+		ArrayList<String> fields = new ArrayList<String>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			
+			if (quoted) {
+				if (c != '"') {
+					field.append(c);
+				} else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					field.append(c);
+					i++;
+				} else {
+					quoted = false;
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append(c);
+			}
+		}
+		
+		fields.add(field.toString());
+		return fields;
+	}
+	
+	/**
+	 * This class is used to hold where the codes and the years of the data
+	 * are found in each line.
+	 */
+	private static final class Columns {
+		/**
+		 * Constructor function for learning the columns from the header.
+		 *
+		 * @param header The fields of the header.
+		 * @throws IOException If the header lacks the codes or the years.
+		 */
+		Columns(List<String> header) throws IOException {
+			country = header.indexOf("Country Code");
+			indicator = Math.max(header.indexOf("Indicator Code"),
+					header.indexOf("Series Code"));
+			
+			ArrayList<Integer> columns = new ArrayList<Integer>();
+			
+			for (int i = 0; i < header.size(); i++) {
+				// Take the year at the start of names such as 1960 [YR1960].
+				String name = header.get(i).trim().split(" ")[0];
+				
+				if (name.length() == 4 && name.chars().allMatch(Character::isDigit)) {
+					columns.add(i);
+				}
+			}
+			
+			if (country < 0 || indicator < 0 || columns.isEmpty()) {
+				throw new IOException("Unexpected header: " + header);
+			}
+			
+			yearColumns = new int[columns.size()];
+			years = new int[columns.size()];
+			int first = Integer.MAX_VALUE;
+			int last = Integer.MIN_VALUE;
+			
+			for (int i = 0; i < columns.size(); i++) {
+				yearColumns[i] = columns.get(i);
+				years[i] = Integer.parseInt(header.get(columns.get(i)).trim()
+						.substring(0, 4));
+				first = Math.min(first, years[i]);
+				last = Math.max(last, years[i]);
+			}
+			
+			firstYear = first;
+			lastYear = last;
+		}
+		
+		/**
+		 * Reference to the column of the country code.
+		 */
+		final int country;
+		
+		/**
+		 * Reference to the column of the indicator code.
+		 */
+		final int indicator;
+		
+		/**
+		 * Reference to the column of each year.
+		 */
+		final int[] yearColumns;
+		
+		/**
+		 * Reference to the year of each year column.
+		 */
+		final int[] years;
+		
+		/**
+		 * Reference to the first year found.
+		 */
+		final int firstYear;
+		
+		/**
+		 * Reference to the last year found.
+		 */
+		final int lastYear;
+	}
+	
+	private
+	/**
+	 * Reference to the file to import.
+	 */
+	Path inputFile;
+	
+	/**
+	 * Reference to the file the store is written to.
+	 */
+	Path outputFile;
+	
+	/**
+	 * Reference to the size of each value stored, 4 for floats or 8 for
+	 * doubles.
+	 */
+	int valueBytes;
+	
+	/**
+	 * Reference to the first year of the data.
+	 */
+	int firstYear;
+	
+	/**
+	 * Reference to the number of years of the data.
+	 */
+	int yearCount;
+	
+	/**
+	 * Reference to the usage message of the importer.
+	 */
+	static final String usage = "Usage: WdiImporter WDI_csv.zip|WDIData.csv"
+			+ " [--out wdi_store.bin] [--float]";
+}
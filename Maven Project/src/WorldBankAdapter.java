@@ -1,10 +1,22 @@
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Scanner;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonParser;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * This class is used to implement an adapter model for the World-Bank so that
@@ -13,7 +25,7 @@ import com.google.gson.JsonParser;
  *
  * @author Mohammad Sarfraz.
  * @version	1.0.0
- * @see WorldBankInterface DataContainer
+ * @see WorldBankInterface SeriesBuffer
  */
 public class WorldBankAdapter {
 	/**
@@ -22,117 +34,441 @@ public class WorldBankAdapter {
 	public WorldBankAdapter() {}
 	
 	/**
-	 * This function is used for establishing a URL connection to the 
-	 * appropriate World-Bank database records based on the user parameters.
+	 * This function is used for retrieving a complete data series from the
+	 * World-Bank. The page size is chosen to fit the whole year range, and
+	 * should the server still split the results, the remaining pages are
+	 * requested in parallel and merged back in order.
 	 * 
 	 * @param country Selected country.
 	 * @param analysisType World-Bank reference title for accessing the data.
 	 * @param startYear Selected start year.
 	 * @param endYear  Selected end year.
-	 * @return URL resource to the appropriate World-Bank data table.
+	 * @return Buffer of the years and values, null if any page could not be
+	 * retrieved.
 	 */
-	public URL connectToServer(String country, String analysisType,
+	public SeriesBuffer fetchData(String country, String analysisType,
 			int startYear, int endYear) {
-		// Construct the URL to access the desired data from.
-		String urlString = String.format(URL_FORMAT, country,
-				analysisType, startYear, endYear);
-						
-		// Attempt to make connection.
-		try {			
-			URL url = new URL(urlString);
-			HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-			conn.setRequestMethod("GET");
-			conn.connect();	
+		int pageSize = Math.min(Math.max(endYear - startYear + 1, 1),
+				MAX_PAGE_SIZE);
+		SeriesBuffer dataBuffer = new SeriesBuffer(pageSize);
+		
+		if (!fetchPages(country, analysisType, startYear, endYear, pageSize,
+				ignored -> dataBuffer)) { return null; }
+		
+		return dataBuffer;
+	}
+	
+	/**
+	 * This function is used for retrieving the data series of many countries
+	 * from the World-Bank with as few requests as possible. The countries are
+	 * grouped into batches as large as the length of a URL allows, each batch
+	 * asked for in a single request naming all of its countries, and the
+	 * entries returned are split back up by country.
+	 *
+	 * @param countries The ISO3 codes of the countries.
+	 * @param analysisType World-Bank reference title for accessing the data.
+	 * @param startYear Selected start year.
+	 * @param endYear  Selected end year.
+	 * @return The data series of each country, in the order given, leaving
+	 * out the countries of any batch that could not be retrieved and any
+	 * country the World-Bank returned nothing for.
+	 */
+	public Map<String, SeriesBuffer> fetchData(List<String> countries,
+			String analysisType, int startYear, int endYear) {
+		LinkedHashMap<String, SeriesBuffer> data =
+				new LinkedHashMap<String, SeriesBuffer>();
+		int years = Math.max(endYear - startYear + 1, 1);
+		
+		for (List<String> batch : groupCountries(countries, analysisType,
+				startYear, endYear)) {
+			HashMap<String, SeriesBuffer> batchData =
+					new HashMap<String, SeriesBuffer>();
+			
+			// Only keep the entries of the countries that were asked for.
+			if (!fetchPages(String.join(";", batch), analysisType, startYear,
+					endYear, Math.min(batch.size() * years, MAX_PAGE_SIZE),
+					country -> batch.contains(country)
+							? batchData.computeIfAbsent(country,
+									ignored -> new SeriesBuffer(years))
+							: null)) { continue; }
 			
-			// Only return connection URL if it was successful.
-			int responsecode = conn.getResponseCode();
-			if (responsecode == 200) {
-				return url;
+			for (String country : batch) {
+				if (batchData.containsKey(country)) {
+					data.put(country, batchData.get(country));
+				}
 			}
+		}
+		
+		return data;
+	}
+	
+	/**
+	 * This function is used for retrieving every page of a data table and
+	 * handing each entry to the data series of its country. The first page
+	 * tells how many pages follow, and those are requested in parallel and
+	 * decoded in order so that each data series stays sorted.
+	 *
+	 * @param country The ISO3 codes of the countries, separated by
+	 * semicolons.
+	 * @param analysisType World-Bank reference title for accessing the data.
+	 * @param startYear Selected start year.
+	 * @param endYear  Selected end year.
+	 * @param pageSize Number of entries per page.
+	 * @param dataBuffers The data series to append the entries of each
+	 * country to, null for entries to skip.
+	 * @return True if every page was retrieved, false otherwise.
+	 */
+	private boolean fetchPages(String country, String analysisType,
+			int startYear, int endYear, int pageSize,
+			Function<String, SeriesBuffer> dataBuffers) {
+		int pages;
+		
+		// Retrieve the first page, whose header tells how many pages follow.
+		try (var data = requestData(country, analysisType, startYear,
+				endYear, pageSize, 1)) {
+			if (data == null) { return false; }
+			pages = translateJsonData(data, dataBuffers);
 		} catch (IOException err) {
+			err.printStackTrace();
+			return false;
+		}
+		
+		if (pages < 0) { return false; }
+		
+		// Request all of the remaining pages at once.
+		ArrayList<CompletableFuture<HttpResponse<InputStream>>> pendingPages =
+				new ArrayList<CompletableFuture<HttpResponse<InputStream>>>();
+		
+		for (int page = 2; page <= pages; page++) {
+			pendingPages.add(HTTP_CLIENT.sendAsync(buildRequest(country,
+					analysisType, startYear, endYear, pageSize, page),
+					HttpResponse.BodyHandlers.ofInputStream()));
+		}
+		
+		// Decode the pages in order so the series stays sorted.
+		boolean complete = true;
+		
+		for (int i = 0; i < pendingPages.size(); i++) {
+			try {
+				HttpResponse<InputStream> response = pendingPages.get(i).get();
+				
+				try (var data = response.body()) {
+					if (complete && (response.statusCode() != 200
+							|| translateJsonData(data, dataBuffers) < 0)) {
+						complete = false;
+					}
+				}
+			} catch (IOException | ExecutionException err) {
 				err.printStackTrace();
+				complete = false;
+			} catch (InterruptedException err) {
+				// Abandon the remaining pages and keep the interrupt.
+				for (int j = i; j < pendingPages.size(); j++) {
+					pendingPages.get(j).cancel(true);
+				}
+				
+				Thread.currentThread().interrupt();
+				return false;
 			}
+		}
+		
+		return complete;
+	}
+	
+	/**
+	 * This function is used for requesting one page of the appropriate
+	 * World-Bank data table based on the user parameters. A single GET
+	 * request is made and its status is checked before the body is read
+	 * from the same response.
+	 *
+	 * @param country Selected country, or several separated by
+	 * semicolons.
+	 * @param analysisType World-Bank reference title for accessing the data.
+	 * @param startYear Selected start year.
+	 * @param endYear  Selected end year.
+	 * @param pageSize Number of entries per page.
+	 * @param page Page number to request, starting from 1.
+	 * @return Stream of the JSON Array containing the data, null if the
+	 * request was unsuccessful. The caller is responsible for closing it.
+	 */
+	public InputStream requestData(String country, String analysisType,
+			int startYear, int endYear, int pageSize, int page) {
+		HttpRequest request = buildRequest(country, analysisType, startYear,
+				endYear, pageSize, page);
+		
+		// Attempt to make the request over the shared connection pool.
+		try {			
+			HttpResponse<InputStream> response = HTTP_CLIENT.send(request,
+					HttpResponse.BodyHandlers.ofInputStream());
+			
+			// Only return the data if the request was successful.
+			if (response.statusCode() == 200) {
+				return response.body();
+			}
+			
+			response.body().close();
+		} catch (IOException err) {
+			err.printStackTrace();
+		} catch (InterruptedException err) {
+			Thread.currentThread().interrupt();
+		}
 		
 		// Return null otherwise.
 		return null;
 	}
 	
 	/**
-	 * This function is used for getting the data sent in by the server as a
-	 * JSON Array string.
+	 * This function is used for translating the JSON data streamed in by the
+	 * server into a data series that can be used in the application. Only
+	 * the year and value of each entry are read, straight into primitive
+	 * columns, without building the whole document in memory.
 	 * 
-	 * @param url URL resource to the appropriate World-Bank data table.	
-	 * @return JSON Array as a string containing the data.
+	 * @param jsonStream Stream of the JSON Array containing the data.
+	 * @return Buffer of the years and values, empty if none were returned.
 	 */
-	public String readDataFromServer(URL url) {
-		String data = "";
+	public SeriesBuffer translateJsonData(InputStream jsonStream) {
+		SeriesBuffer dataBuffer = new SeriesBuffer();
+		
+		if (translateJsonData(jsonStream, dataBuffer) < 0) {
+			return new SeriesBuffer();
+		}
+		
+		return dataBuffer;
+	}
+	
+	/**
+	 * This function is used for translating one page of JSON data streamed in
+	 * by the server and appending its entries to a data series.
+	 *
+	 * @param jsonStream Stream of the JSON Array containing the data.
+	 * @param dataBuffer The data series to append the entries to.
+	 * @return The total number of pages given in the page header, or -1 if
+	 * the data could not be translated.
+	 */
+	public int translateJsonData(InputStream jsonStream,
+			SeriesBuffer dataBuffer) {
+		return translateJsonData(jsonStream, ignored -> dataBuffer);
+	}
+	
+	/**
+	 * This function is used for translating one page of JSON data streamed in
+	 * by the server and appending each entry to the data series of its
+	 * country.
+	 *
+	 * @param jsonStream Stream of the JSON Array containing the data.
+	 * @param dataBuffers The data series to append the entries of each
+	 * country to, null for entries to skip.
+	 * @return The total number of pages given in the page header, or -1 if
+	 * the data could not be translated.
+	 */
+	private int translateJsonData(InputStream jsonStream,
+			Function<String, SeriesBuffer> dataBuffers) {
+		int pages;
 		
-		// Read and concatenate the data from the URL.
 		try {
-			Scanner sc = new Scanner(url.openStream());
-			while (sc.hasNext()) {
-				data += sc.nextLine();
+			JsonReader reader = new JsonReader(new InputStreamReader(
+					jsonStream, StandardCharsets.UTF_8));
+			reader.beginArray();
+			
+			// Read the page header held in the first element.
+			pages = readPageHeader(reader);
+			
+			// Test if the user parameters sent in were valid.
+			if (pages < 0 || !reader.hasNext()) {
+				System.err.println("Error in request parameters!");
+				return -1;
 			}
-			sc.close();
 			
-		} catch (IOException err) {
+			// No data is returned as null rather than an empty array.
+			if (reader.peek() == JsonToken.NULL) {
+				reader.nextNull();
+				return pages;
+			}
+			
+			// Parse the year and data values based on their availability.
+			reader.beginArray();
+			while (reader.hasNext()) {
+				readDataPoint(reader, dataBuffers);
+			}
+			reader.endArray();
+		} catch (IOException | IllegalStateException 
+				| NumberFormatException err) {
 			err.printStackTrace();
+			return -1;
 		}
 		
-		return data;
+		return pages;
 	}
 	
 	/**
-	 * This function is used for translating the JSON string data into data
-	 * that can be used in the application as a data series. 
-	 * 
-	 * @param jsonData JSON Array as a string containing the data.	
-	 * @return Array of data stored in DataContainers.
+	 * This function is used for reading the page header of the JSON data.
+	 *
+	 * @param reader Reader positioned at the start of the header.
+	 * @return The total number of pages, or -1 if the server returned an
+	 * error message instead.
+	 * @throws IOException If the header could not be read.
 	 */
-	public ArrayList<DataContainer> translateJsonData(String jsonData) {
-		// Parse the results as a JSON array.
-		JsonArray jsonArray = new JsonParser().parse(jsonData).getAsJsonArray();
+	private int readPageHeader(JsonReader reader) throws IOException {
+		int pages = -1;
 		
-		// Test if the user parameters sent in were valid.
-		if (jsonArray.size() <= 1) {
-			System.err.println("Error in request parameters!");
-			System.exit(69);
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			
+			if (name.equals("pages")) {
+				pages = reader.nextInt();
+			} else {
+				reader.skipValue();
+			}
 		}
+		reader.endObject();
 		
-		// Determine the size of the acquired results.
-		int sizeOfResults = jsonArray.get(1).getAsJsonArray().size();
-		int year;
-		float attributeForYear;
-		ArrayList<DataContainer> dataArray = new ArrayList<DataContainer>();
+		return pages;
+	}
 		
-		// Parse the year and data values based on their availability. 
-		for (int i = 0; i < sizeOfResults; i++) {
-			year = jsonArray.get(1).getAsJsonArray().get(i).getAsJsonObject()
-					.get("date").getAsInt();
+	/**
+	 * This function is used for reading a single entry of the JSON data and
+	 * appending its year and value to the data series of its country.
+	 * 
+	 * @param reader Reader positioned at the start of the entry.
+	 * @param dataBuffers The data series to append the entries of each
+	 * country to, null for entries to skip.
+	 * @throws IOException If the entry could not be read.
+	 */
+	private void readDataPoint(JsonReader reader,
+			Function<String, SeriesBuffer> dataBuffers) throws IOException {
+		String country = "";
+		int year = 0;
+		double attributeForYear = 0;
+		boolean hasAttribute = false;
 			
-			if (jsonArray.get(1).getAsJsonArray().get(i).getAsJsonObject()
-					.get("value").isJsonNull()) {
-				attributeForYear = 0;				
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			
+			if (name.equals("countryiso3code")) {
+				country = reader.nextString();
+			} else if (name.equals("date")) {
+				year = reader.nextInt();
+			} else if (name.equals("value") 
+					&& reader.peek() != JsonToken.NULL) {
+				attributeForYear = reader.nextDouble();
+				hasAttribute = true;
+			} else {
+				reader.skipValue();
 			}
-			else {
-				attributeForYear = jsonArray.get(1).getAsJsonArray().get(i)
-						.getAsJsonObject().get("value").getAsFloat();				
+		}
+		reader.endObject();
+			
+		SeriesBuffer dataBuffer = dataBuffers.apply(country);
+		
+		// Append the year and attribute into the data series.
+		if (dataBuffer == null) {
+			return;
+		} else if (hasAttribute) {
+			dataBuffer.add(year, attributeForYear);
+		} else {
+			dataBuffer.addMissing(year);
+		}
+	}
+	
+	/**
+	 * This function is used for grouping countries into batches whose
+	 * requests fit within the longest URL sent.
+	 *
+	 * @param countries The ISO3 codes of the countries.
+	 * @param analysisType World-Bank reference title for accessing the data.
+	 * @param startYear Selected start year.
+	 * @param endYear  Selected end year.
+	 * @return The countries of each batch, in the order given.
+	 */
+	private List<List<String>> groupCountries(List<String> countries,
+			String analysisType, int startYear, int endYear) {
+		ArrayList<List<String>> batches = new ArrayList<List<String>>();
+		ArrayList<String> batch = new ArrayList<String>();
+		int baseLength = String.format(URL_FORMAT, "", analysisType, startYear,
+				endYear, MAX_PAGE_SIZE, Integer.MAX_VALUE).length();
+		int length = baseLength;
+		
+		for (String country : countries) {
+			// Start a new batch once the next country would not fit.
+			if (!batch.isEmpty() && length + 1 + country.length() > MAX_URL_LENGTH) {
+				batches.add(batch);
+				batch = new ArrayList<String>();
+				length = baseLength;
 			}
 			
-			// Combine the year and attribute into the data container class.
-			DataContainer translatedData = new DataContainer(year, attributeForYear); 
-
-			// Append the data into the final array.
-			dataArray.add(translatedData);
+			length += (batch.isEmpty() ? 0 : 1) + country.length();
+			batch.add(country);
 		}
 		
-		return dataArray;	
+		if (!batch.isEmpty()) { batches.add(batch); }
+		
+		return batches;
+	}
+	
+	/**
+	 * This function is used for constructing the GET request for one page of
+	 * a World-Bank data table.
+	 *
+	 * @param country Selected country, or several separated by
+	 * semicolons.
+	 * @param analysisType World-Bank reference title for accessing the data.
+	 * @param startYear Selected start year.
+	 * @param endYear  Selected end year.
+	 * @param pageSize Number of entries per page.
+	 * @param page Page number to request, starting from 1.
+	 * @return The request for the data table.
+	 */
+	private HttpRequest buildRequest(String country, String analysisType,
+			int startYear, int endYear, int pageSize, int page) {
+		// Construct the URL to access the desired data from.
+		String urlString = String.format(URL_FORMAT, country,
+				analysisType, startYear, endYear, pageSize, page);
+		
+		return HttpRequest.newBuilder(URI.create(urlString))
+				.timeout(REQUEST_TIMEOUT)
+				.GET()
+				.build();
 	}
 	
 	private
+	/**
+	 * Reference to the address of the World-Bank API, which may be changed
+	 * through the worldbank.api.url property to run against a local stand-in.
+	 */
+	static final String BASE_URL = System.getProperty("worldbank.api.url",
+			"http://api.worldbank.org/v2").replaceAll("/+$", "");
+	
 	/**
 	 * Reference to the URL format used for sending HTTP GET requests.
 	 */
-	static final String URL_FORMAT = 
-			"http://api.worldbank.org/v2/country/%s/indicator/%s?date=%d:%d&format=json"; 
+	static final String URL_FORMAT = BASE_URL
+			+ "/country/%s/indicator/%s?date=%d:%d&format=json"
+			+ "&per_page=%d&page=%d";
+	
+	/**
+	 * Reference to the largest page size requested from the server.
+	 */
+	static final int MAX_PAGE_SIZE = 1000;
+	
+	/**
+	 * Reference to the longest URL sent when asking for many countries at once.
+	 */
+	static final int MAX_URL_LENGTH = 1024;
+	
+	/**
+	 * Reference to the maximum time allowed for a single request.
+	 */
+	static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+	
+	/**
+	 * Reference to the HTTP client shared by all requests so that its
+	 * keep-alive connections are pooled and reused.
+	 */
+	static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.connectTimeout(Duration.ofSeconds(10))
+			.build();
 }
@@ -1,4 +1,14 @@
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * This class is used to implement a communication interface between the main
@@ -15,7 +25,7 @@ public class WorldBankInterface {
 	 *
 	 * @return A unique instance of the object.
 	 */
-	public static WorldBankInterface getInstance() {
+	public static synchronized WorldBankInterface getInstance() {
 		if(instance == null) {
 			instance = new WorldBankInterface();
 		}
@@ -29,13 +39,49 @@ public class WorldBankInterface {
 	private WorldBankInterface() {
 		// Create instance for the World-Bank API.
 		worldBank = new WorldBankAdapter();
-		dataArray = new ArrayList<DataContainer>();
-		concatenatedDataList = new ArrayList <ArrayList<DataContainer>>();
+		indicatorCache = new IndicatorCache(maxCacheWeight);
+		indicatorStore = new IndicatorStore(IndicatorStore.getDefaultDirectory());
+		bulkStore = ColumnarStore.openDefault();
+		coverageIndex = CoverageIndex.getInstance();
+		inFlight = new ConcurrentHashMap<String,
+				CompletableFuture<IndicatorRecord>>();
+		timeToLive = IndicatorStore.getTimeToLive();
+		
+		// Create a bounded pool of daemon threads for fetching indicators so
+		// that pending requests never keep the application alive on exit.
+		fetchPool = Executors.newFixedThreadPool(maxConcurrentFetches,
+				task -> {
+					Thread thread = new Thread(task, "world-bank-fetch");
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+	
+	/**
+	 * This function is used to retrieve the index of the years known to hold
+	 * data, so that requests can be checked before they are made.
+	 *
+	 * @return The coverage index.
+	 */
+	public CoverageIndex getCoverageIndex() {
+		return coverageIndex;
+	}
+	
+	/**
+	 * This function is used to retrieve the panel of data imported in bulk,
+	 * for callers reading across many countries, indicators or years at once
+	 * through its cube.
+	 *
+	 * @return The imported panel, or null if none was imported.
+	 */
+	public ColumnarStore getBulkStore() {
+		return bulkStore;
 	}
 		
 	/**
 	 * This function is used for receiving the requested data from the 
-	 * World-Bank.
+	 * World-Bank. All the indicators of the analysis are requested at once
+	 * and gathered back in the order they were given.
 	 * 
 	 * @param country Selected country.
 	 * @param givenStartYear Selected start year.
@@ -44,31 +90,336 @@ public class WorldBankInterface {
 	 * reference titles for accessing the data tables.
 	 * @return The concatenated data series for the requested analysis.
 	 */
-	public ArrayList <ArrayList<DataContainer>> getData(String country, 
+	public ArrayList<Series> getData(String country, 
 			int givenStartYear,int givenEndYear, String[] analysisTypes) {
-		// Clear any compiled data from before.
-		concatenatedDataList.clear();
+		return getData(country, givenStartYear, givenEndYear, analysisTypes,
+				null);
+	}
+	
+	/**
+	 * This function is used for receiving the requested data from the 
+	 * World-Bank while passing on each data series as soon as it arrives,
+	 * so that it can be shown before the others are available.
+	 * 
+	 * @param country Selected country.
+	 * @param givenStartYear Selected start year.
+	 * @param givenEndYear  Selected end year.
+	 * @param analysisTypes Array containing the appropriate World-Bank
+	 * reference titles for accessing the data tables.
+	 * @param listener The listener told about each data series as it
+	 * arrives, or null if none is needed.
+	 * @return The concatenated data series for the requested analysis.
+	 */
+	public ArrayList<Series> getData(String country, int givenStartYear,
+			int givenEndYear, String[] analysisTypes, SeriesListener listener) {
+		ArrayList<Future<Series>> pendingData = new ArrayList<Future<Series>>();
 		
-		// Loop through analysis types and retrieve the data as needed.
+		// Issue the requests for every analysis type concurrently.
 		for (int i = 0; i < analysisTypes.length; i++) {
-			// Establish server connection.
-			var server = worldBank.connectToServer(country, analysisTypes[i],
-					givenStartYear, givenEndYear);
+			int index = i;
+			String analysisType = analysisTypes[i];
+			pendingData.add(fetchPool.submit(() -> {
+				Series series = fetchIndicator(country, analysisType,
+						givenStartYear, givenEndYear);
+				
+				if (listener != null) { listener.seriesReady(index, series); }
+				
+				return series;
+			}));
+		}
 			
-			// Only proceed if valid internet connection is available.
-			if (server != null) {
-				var data = worldBank.readDataFromServer(server);
-				dataArray = worldBank.translateJsonData(data);			
-			} else {
-				System.err.println("Illegal request made to the server!");
+		// Gather the data series back in the order they were requested.
+		ArrayList<Series> concatenatedDataList = new ArrayList<Series>();
+		
+		for (int i = 0; i < pendingData.size(); i++) {
+			try {
+				concatenatedDataList.add(pendingData.get(i).get());
+			} catch (InterruptedException err) {
+				// Abandon the remaining requests and keep the interrupt.
+				for (int j = i; j < pendingData.size(); j++) {
+					pendingData.get(j).cancel(true);
+					concatenatedDataList.add(emptySeries);
+				}
+				
+				Thread.currentThread().interrupt();
+				break;
+			} catch (ExecutionException err) {
+				err.getCause().printStackTrace();
+				concatenatedDataList.add(emptySeries);
 			}
-			
-			// Append the data array to the final containers.
-			concatenatedDataList.add(dataArray);
 		}
 		
 		return concatenatedDataList;
 	}
+	
+	/**
+	 * This function is used for fetching ahead the data of many countries at
+	 * once, so that analysing them one by one afterwards finds their data
+	 * held. Only the countries holding nothing usable for an indicator are
+	 * asked for, in batches of countries per request rather than a request
+	 * per country. Each of them is shared as a request under way, so that
+	 * nobody else fetches it meanwhile; those already under way are left to
+	 * their own request.
+	 *
+	 * @param countries The ISO3 codes of the countries.
+	 * @param givenStartYear Selected start year.
+	 * @param givenEndYear  Selected end year.
+	 * @param analysisTypes Array containing the appropriate World-Bank
+	 * reference titles for accessing the data tables.
+	 */
+	public void prefetch(List<String> countries, int givenStartYear,
+			int givenEndYear, String[] analysisTypes) {
+		for (String analysisType : analysisTypes) {
+			var flights = new LinkedHashMap<String,
+					CompletableFuture<IndicatorRecord>>();
+			
+			for (String country : countries) {
+				boolean inBulk = bulkStore != null && bulkStore.covers(country,
+						analysisType, givenStartYear, givenEndYear);
+				
+				if (inBulk || findHeld(country, analysisType) != null) {
+					continue;
+				}
+				
+				// Claim the request unless another one is already under way.
+				var flight = new CompletableFuture<IndicatorRecord>();
+				
+				if (inFlight.putIfAbsent(country + "/" + analysisType,
+						flight) == null) { flights.put(country, flight); }
+			}
+			
+			if (flights.isEmpty()) { continue; }
+			
+			long fetchedAt = System.currentTimeMillis();
+			Map<String, SeriesBuffer> fetched = Map.of();
+			
+			try {
+				fetched = worldBank.fetchData(
+						new ArrayList<String>(flights.keySet()), analysisType,
+						givenStartYear, givenEndYear);
+			} finally {
+				for (Map.Entry<String, CompletableFuture<IndicatorRecord>> entry
+						: flights.entrySet()) {
+					String country = entry.getKey();
+					SeriesBuffer data = fetched.get(country);
+					IndicatorRecord record = null;
+					
+					// Keep each series as if it had been fetched on its own.
+					if (data != null) {
+						record = new IndicatorRecord(country, analysisType,
+								givenStartYear, givenEndYear, data, fetchedAt);
+						indicatorCache.put(record);
+						indicatorStore.save(record);
+						coverageIndex.record(record);
+					}
+					
+					inFlight.remove(country + "/" + analysisType,
+							entry.getValue());
+					
+					// Let the others fetch on their own what the batch missed.
+					if (record == null) {
+						entry.getValue().cancel(false);
+					} else {
+						entry.getValue().complete(record);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * This function is used for retrieving a single data series from the
+	 * World-Bank for one of the analysis types.
+	 *
+	 * @param country Selected country.
+	 * @param analysisType World-Bank reference title for accessing the data.
+	 * @param givenStartYear Selected start year.
+	 * @param givenEndYear  Selected end year.
+	 * @return The data series for the analysis type, empty if unavailable.
+	 */
+	private Series fetchIndicator(String country,
+			String analysisType, int givenStartYear, int givenEndYear) {
+		var data = retrieveSharedIndicator(country, analysisType,
+				givenStartYear, givenEndYear);
+		
+		// Only proceed if valid internet connection is available.
+		if (data == null) {
+			System.err.println("Illegal request made to the server!");
+			return emptySeries;
+		}
+		
+		return data.toSeries();
+	}
+	
+	/**
+	 * This function is used for retrieving a data series while sharing the
+	 * work with any other request for the same country and indicator. Only
+	 * one request per indicator is made at a time; the others wait for its
+	 * result and take their years from it, or go on to fetch whatever years
+	 * it did not cover.
+	 *
+	 * @param country Selected country.
+	 * @param analysisType World-Bank reference title for accessing the data.
+	 * @param givenStartYear Selected start year.
+	 * @param givenEndYear  Selected end year.
+	 * @return The data series for the range, null if it could not be fetched.
+	 */
+	private SeriesBuffer retrieveSharedIndicator(String country,
+			String analysisType, int givenStartYear, int givenEndYear) {
+		String key = country + "/" + analysisType;
+		
+		while (true) {
+			var flight = new CompletableFuture<IndicatorRecord>();
+			var existing = inFlight.putIfAbsent(key, flight);
+			
+			// Make the request when no other one is under way.
+			if (existing == null) {
+				SeriesBuffer data;
+				
+				try {
+					data = retrieveIndicator(country, analysisType,
+							givenStartYear, givenEndYear);
+				} catch (RuntimeException err) {
+					inFlight.remove(key, flight);
+					flight.completeExceptionally(err);
+					throw err;
+				}
+				
+				// Stop sharing the request before the others are woken, so that
+				// any of them going on to fetch more years does not find it.
+				inFlight.remove(key, flight);
+				
+				// Let the others retry when this request was abandoned.
+				if (Thread.currentThread().isInterrupted()) {
+					flight.cancel(false);
+				} else {
+					flight.complete(data == null ? null
+							: new IndicatorRecord(country, analysisType,
+									givenStartYear, givenEndYear, data));
+				}
+				
+				return data;
+			}
+			
+			// Otherwise wait for the request under way to finish.
+			try {
+				var record = existing.get();
+				
+				if (record == null) { return null; }
+				if (record.covers(givenStartYear, givenEndYear)) {
+					return record.getData().slice(givenStartYear, givenEndYear);
+				}
+			} catch (CancellationException err) {
+				// Try again, as the request was abandoned by its owner.
+			} catch (ExecutionException err) {
+				err.getCause().printStackTrace();
+				return null;
+			} catch (InterruptedException err) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		}
+	}
+	
+	/**
+	 * This function is used for retrieving a data series through the
+	 * imported panel, the cache and the local store. A range held in any of
+	 * them is answered without any request, and when a held range is
+	 * extended only the missing years are fetched. Records older than the
+	 * time to live are fetched again.
+	 * 
+	 * @param country Selected country.
+	 * @param analysisType World-Bank reference title for accessing the data.
+	 * @param givenStartYear Selected start year.
+	 * @param givenEndYear  Selected end year.
+	 * @return The data series for the range, null if it could not be fetched.
+	 */
+	private SeriesBuffer retrieveIndicator(String country,
+			String analysisType, int givenStartYear, int givenEndYear) {
+		// Answer from the imported panel when it holds the whole range.
+		if (bulkStore != null && bulkStore.covers(country, analysisType,
+				givenStartYear, givenEndYear)) {
+			return bulkStore.read(country, analysisType, givenStartYear,
+					givenEndYear);
+		}
+		
+		var cached = findHeld(country, analysisType);
+		
+		// Answer straight from the held data when the range is covered.
+		if (cached != null && cached.covers(givenStartYear, givenEndYear)) {
+			return cached.getData().slice(givenStartYear, givenEndYear);
+		}
+		
+		SeriesBuffer data;
+		int startYear = givenStartYear;
+		int endYear = givenEndYear;
+		long fetchedAt = System.currentTimeMillis();
+		
+		if (cached == null) {
+			data = worldBank.fetchData(country, analysisType, startYear,
+					endYear);
+		} else {
+			// Widen the range to the cached one and fetch only the years on
+			// either side of it, keeping the newest years first.
+			startYear = Math.min(startYear, cached.getStartYear());
+			endYear = Math.max(endYear, cached.getEndYear());
+			fetchedAt = cached.getFetchedAt();
+			data = new SeriesBuffer();
+			
+			if (endYear > cached.getEndYear()) {
+				var newer = worldBank.fetchData(country, analysisType,
+						cached.getEndYear() + 1, endYear);
+				if (newer == null) { return null; }
+				data.append(newer);
+			}
+			
+			data.append(cached.getData());
+			
+			if (startYear < cached.getStartYear()) {
+				var older = worldBank.fetchData(country, analysisType,
+						startYear, cached.getStartYear() - 1);
+				if (older == null) { return null; }
+				data.append(older);
+			}
+		}
+		
+		if (data == null) { return null; }
+		
+		// Keep the widest range seen for later requests and restarts.
+		var record = new IndicatorRecord(country, analysisType, startYear,
+				endYear, data, fetchedAt);
+		indicatorCache.put(record);
+		indicatorStore.save(record);
+		coverageIndex.record(record);
+		
+		return data.slice(givenStartYear, givenEndYear);
+	}
+	
+	/**
+	 * This function is used for finding the data series held for a country
+	 * and indicator in the cache, or else in the local store. Records older
+	 * than the time to live are not used.
+	 *
+	 * @param country Selected country.
+	 * @param analysisType World-Bank reference title for accessing the data.
+	 * @return The record held, null if there is none that can be used.
+	 */
+	private IndicatorRecord findHeld(String country, String analysisType) {
+		var cached = indicatorCache.get(country, analysisType);
+		
+		// Fall back to the local store when the cache holds nothing usable.
+		if (cached == null || cached.isExpired(timeToLive)) {
+			cached = indicatorStore.load(country, analysisType);
+			
+			if (cached != null && cached.isExpired(timeToLive)) {
+				cached = null;
+			} else if (cached != null) {
+				indicatorCache.put(cached);
+			}
+		}
+		
+		return cached;
+	}
 		
 	private
 	/**
@@ -76,19 +427,59 @@ public class WorldBankInterface {
 	 */
 	static WorldBankInterface instance;
 	
+	/**
+	 * Reference to the maximum number of indicators fetched at the same time.
+	 */
+	static final int maxConcurrentFetches = 8;
+	
+	/**
+	 * Reference to the approximate number of bytes of data kept in memory.
+	 */
+	static final long maxCacheWeight = 16 * 1024 * 1024;
+	
+	/**
+	 * Reference to the series returned when no data could be retrieved.
+	 */
+	static final Series emptySeries = new SeriesBuffer(0).toSeries();
+	
 	/**
 	 * Reference to the World-Bank adapter for acceptable communication.
 	 */
-	static WorldBankAdapter worldBank;
+	final WorldBankAdapter worldBank;
+	
+	/**
+	 * Reference to the cache of the data series recently retrieved.
+	 */
+	IndicatorCache indicatorCache;
+	
+	/**
+	 * Reference to the store of the data series kept on the local disk.
+	 */
+	IndicatorStore indicatorStore;
+	
+	/**
+	 * Reference to the panel of data imported in bulk, or null if none was.
+	 */
+	ColumnarStore bulkStore;
+	
+	/**
+	 * Reference to the years known to hold data for each country and
+	 * indicator.
+	 */
+	CoverageIndex coverageIndex;
+	
+	/**
+	 * Reference to the requests under way, keyed by country and indicator.
+	 */
+	ConcurrentHashMap<String, CompletableFuture<IndicatorRecord>> inFlight;
 	
 	/**
-	 * Reference to a single data series for one computation metric.
+	 * Reference to the time a data series stays valid, in milliseconds.
 	 */
-	static ArrayList<DataContainer> dataArray;
+	long timeToLive;
 	
 	/**
-	 * Reference to the concatenated series of data needed for each analysis
-	 * type.
+	 * Reference to the pool of threads used for fetching the indicators.
 	 */
-	ArrayList <ArrayList<DataContainer>> concatenatedDataList;
+	ExecutorService fetchPool;
 }
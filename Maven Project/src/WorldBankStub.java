@@ -0,0 +1,621 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * This class is used to stand in for the World-Bank API on the local machine,
+ * so that load tests and benchmarks of the whole pipeline can run offline and
+ * give the same answers every time. Indicators are served in the v2 format,
+ * page header included, from responses recorded as JSON files, or made up
+ * from the country, indicator and year when none was recorded. The latency,
+ * its jitter, the number of requests allowed each second and the share of
+ * requests that fail can all be set.
+ *
+ * @author Mohammad Sarfraz.
+ * @version	1.0.0
+ * @see WorldBankAdapter
+ */
+public class WorldBankStub {
+	/**
+	 * Main function for serving the stand-in until the process is stopped.
+	 *
+	 * @param args Command line arguments passed to the stand-in.
+	 */
+	public static void main(String[] args) {
+		WorldBankStub stub;
+		
+		try {
+			stub = new WorldBankStub(args);
+		} catch (IllegalArgumentException | IOException err) {
+			System.err.println(err.getMessage());
+			System.err.println(usage);
+			System.exit(2);
+			return;
+		}
+		
+		stub.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(stub::stop));
+		System.out.println("Serving the World-Bank stand-in on http://localhost:"
+				+ stub.getPort() + "/v2, " + stub.recorded.size()
+				+ " recorded indicators");
+	}
+	
+	/**
+	 * Constructor function for initializing an instance of this object.
+	 *
+	 * @param args Command line arguments describing the behaviour wanted.
+	 * @throws IOException If the port can't be listened on or the recorded
+	 * responses can't be read.
+	 */
+	public WorldBankStub(String[] args) throws IOException {
+		int port = defaultPort;
+		long seed = defaultSeed;
+		recorded = new HashMap<String, List<JsonObject>>();
+		
+		for (int i = 0; i < args.length; i += 2) {
+			if (i + 1 >= args.length) {
+				throw new IllegalArgumentException("Missing value for " + args[i]);
+			}
+			
+			String value = args[i + 1];
+			
+			switch (args[i]) {
+			case "--port":
+				port = (int) parseNumber(value);
+				break;
+			case "--data":
+				loadRecorded(Paths.get(value));
+				break;
+			case "--latency":
+				latency = parseNumber(value);
+				break;
+			case "--jitter":
+				jitter = parseNumber(value);
+				break;
+			case "--rate":
+				rateLimit = (int) parseNumber(value);
+				break;
+			case "--error-rate":
+				errorRate = parseRate(value);
+				break;
+			case "--seed":
+				seed = parseNumber(value);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown option " + args[i]);
+			}
+		}
+		
+		random = new Random(seed);
+		windowStart = new AtomicLong(System.currentTimeMillis());
+		windowRequests = new AtomicInteger();
+		server = HttpServer.create(new InetSocketAddress(port), backlog);
+		server.createContext(contextPath, this::handleRequest);
+		
+		// Every request sleeps through its latency on a thread of its own, so
+		// slow answers never hold up the others.
+		requestPool = Executors.newCachedThreadPool(task -> {
+			Thread thread = new Thread(task, "world-bank-stub");
+			thread.setDaemon(true);
+			return thread;
+		});
+		server.setExecutor(requestPool);
+	}
+	
+	/**
+	 * This function is used to start answering requests.
+	 */
+	public void start() {
+		server.start();
+	}
+	
+	/**
+	 * This function is used to stop answering requests.
+	 */
+	public void stop() {
+		server.stop(0);
+		requestPool.shutdownNow();
+	}
+	
+	/**
+	 * This function is used to retrieve the port the stand-in listens on.
+	 *
+	 * @return The port number.
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+	
+	/**
+	 * This function is used to answer a request for one page of an indicator
+	 * after the latency set, unless it is throttled or chosen to fail.
+	 *
+	 * @param exchange The request and its response.
+	 * @throws IOException If the response can't be sent.
+	 */
+	private void handleRequest(HttpExchange exchange) throws IOException {
+		try {
+			if (isThrottled()) {
+				exchange.getResponseHeaders().set("Retry-After", "1");
+				sendBody(exchange, 429, new byte[0]);
+				return;
+			}
+			
+			long delay;
+			boolean fail;
+			
+			synchronized (random) {
+				delay = latency + (jitter > 0
+						? (long) ((random.nextDouble() * 2 - 1) * jitter) : 0);
+				fail = random.nextDouble() < errorRate;
+			}
+			
+			if (delay > 0) { Thread.sleep(delay); }
+			
+			if (fail) {
+				sendBody(exchange, 503, new byte[0]);
+				return;
+			}
+			
+			// Expect a path such as /v2/country/CAN/indicator/NY.GDP.PCAP.CD.
+			String[] path = exchange.getRequestURI().getPath().split("/");
+			Map<String, String> query = parseQuery(
+					exchange.getRequestURI().getRawQuery());
+			
+			if (path.length != 6 || !path[2].equals("country")
+					|| !path[4].equals("indicator")) {
+				sendBody(exchange, 404, new byte[0]);
+				return;
+			}
+			
+			sendBody(exchange, 200, makePage(path[3].toUpperCase(), path[5],
+					query));
+		} catch (InterruptedException err) {
+			Thread.currentThread().interrupt();
+		} finally {
+			exchange.close();
+		}
+	}
+	
+	/**
+	 * This function is used to check if a request goes over the number of
+	 * requests allowed in the current second.
+	 *
+	 * @return True if the request should be turned away, false otherwise.
+	 */
+	private boolean isThrottled() {
+		if (rateLimit <= 0) { return false; }
+		
+		long now = System.currentTimeMillis();
+		long start = windowStart.get();
+		
+		// Start counting again once a second has passed.
+		if (now - start >= 1000 && windowStart.compareAndSet(start, now)) {
+			windowRequests.set(0);
+		}
+		
+		return windowRequests.incrementAndGet() > rateLimit;
+	}
+	
+	/**
+	 * This function is used to write one page of an indicator in the v2
+	 * format, or the error message the World-Bank gives for invalid
+	 * parameters. Several countries may be asked for at once, their entries
+	 * following each other in the order given.
+	 *
+	 * @param country The ISO3 codes of the countries, separated by semicolons.
+	 * @param indicator The World-Bank reference title of the data.
+	 * @param query The parameters of the query string.
+	 * @return The JSON body of the page.
+	 * @throws IOException If the page can't be written.
+	 */
+	private byte[] makePage(String country, String indicator,
+			Map<String, String> query) throws IOException {
+		int startYear;
+		int endYear;
+		int pageSize;
+		int page;
+		
+		try {
+			String[] dates = query.getOrDefault("date", defaultDates).split(":");
+			startYear = Integer.parseInt(dates[0]);
+			endYear = Integer.parseInt(dates[dates.length - 1]);
+			pageSize = Integer.parseInt(query.getOrDefault("per_page", "50"));
+			page = Integer.parseInt(query.getOrDefault("page", "1"));
+		} catch (NumberFormatException err) {
+			return makeErrorMessage();
+		}
+		
+		if (!country.matches("[A-Z]{3}(;[A-Z]{3})*") || startYear > endYear
+				|| pageSize < 1 || page < 1) {
+			return makeErrorMessage();
+		}
+		
+		ArrayList<JsonObject> entries = new ArrayList<JsonObject>();
+		
+		for (String code : country.split(";")) {
+			entries.addAll(getEntries(code, indicator, startYear, endYear));
+		}
+
+		int pages = Math.max((entries.size() + pageSize - 1) / pageSize, 1);
+		int first = Math.min((page - 1) * pageSize, entries.size());
+		int last = Math.min(first + pageSize, entries.size());
+		
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		
+		try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(body,
+				StandardCharsets.UTF_8))) {
+			writer.beginArray();
+			writer.beginObject();
+			writer.name("page").value(page);
+			writer.name("pages").value(pages);
+			writer.name("per_page").value(pageSize);
+			writer.name("total").value(entries.size());
+			writer.name("sourceid").value("2");
+			writer.name("lastupdated").value(lastUpdated);
+			writer.endObject();
+			
+			// Pages past the last one hold null, as they do on the server.
+			if (first == last) {
+				writer.nullValue();
+			} else {
+				writer.beginArray();
+				
+				for (int i = first; i < last; i++) {
+					writeEntry(writer, entries.get(i));
+				}
+				
+				writer.endArray();
+			}
+			
+			writer.endArray();
+		}
+		
+		return body.toByteArray();
+	}
+	
+	/**
+	 * This function is used to gather the entries of an indicator for a range
+	 * of years, the newest year first.
+	 *
+	 * @param country The ISO3 code of the country.
+	 * @param indicator The World-Bank reference title of the data.
+	 * @param startYear The first year of the range.
+	 * @param endYear The last year of the range.
+	 * @return The entries of the range.
+	 */
+	private List<JsonObject> getEntries(String country, String indicator,
+			int startYear, int endYear) {
+		ArrayList<JsonObject> entries = new ArrayList<JsonObject>();
+		List<JsonObject> held = recorded.get(country + "/" + indicator);
+		
+		if (held != null) {
+			for (JsonObject entry : held) {
+				int year = entry.get("date").getAsInt();
+				
+				if (year >= startYear && year <= endYear) { entries.add(entry); }
+			}
+			
+			return entries;
+		}
+		
+		// Make up values that only depend on what was asked for.
+		for (int year = endYear; year >= startYear; year--) {
+			JsonObject entry = new JsonObject();
+			entry.addProperty("countryiso3code", country);
+			entry.addProperty("indicator", indicator);
+			entry.addProperty("date", Integer.toString(year));
+			
+			int hash = (country + "/" + indicator + "/" + year).hashCode();
+			
+			if (Math.floorMod(hash, missingEvery) != 0) {
+				entry.addProperty("value", 1 + Math.floorMod(hash, 100000) / 100.0);
+			}
+			
+			entries.add(entry);
+		}
+		
+		return entries;
+	}
+	
+	/**
+	 * This function is used to write an entry with every field the World-Bank
+	 * gives it.
+	 *
+	 * @param writer The writer to write the entry to.
+	 * @param entry The entry, recorded or made up.
+	 * @throws IOException If the entry can't be written.
+	 */
+	private static void writeEntry(JsonWriter writer, JsonObject entry)
+			throws IOException {
+		String country = entry.get("countryiso3code").getAsString();
+		JsonElement indicator = entry.get("indicator");
+		JsonElement value = entry.get("value");
+		
+		writer.beginObject();
+		writer.name("indicator").beginObject();
+		writer.name("id").value(indicator.isJsonObject()
+				? indicator.getAsJsonObject().get("id").getAsString()
+				: indicator.getAsString());
+		writer.name("value").value(indicator.isJsonObject()
+				? indicator.getAsJsonObject().get("value").getAsString() : "");
+		writer.endObject();
+		writer.name("country").beginObject();
+		writer.name("id").value(country.length() >= 2
+				? country.substring(0, 2) : country);
+		writer.name("value").value(country);
+		writer.endObject();
+		writer.name("countryiso3code").value(country);
+		writer.name("date").value(entry.get("date").getAsString());
+		
+		if (value == null || value.isJsonNull()) {
+			writer.name("value").nullValue();
+		} else {
+			writer.name("value").value(value.getAsDouble());
+		}
+		
+		writer.name("unit").value("");
+		writer.name("obs_status").value("");
+		writer.name("decimal").value(1);
+		writer.endObject();
+	}
+	
+	/**
+	 * This function is used to write the message the World-Bank answers
+	 * invalid parameters with.
+	 *
+	 * @return The JSON body of the message.
+	 */
+	private static byte[] makeErrorMessage() {
+		return ("[{\"message\":[{\"id\":\"120\",\"key\":\"Invalid value\","
+				+ "\"value\":\"The provided parameter value is not valid\"}]}]")
+				.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * This function is used to read the responses recorded from the
+	 * World-Bank. Each file holds a response for one country and indicator,
+	 * the page header followed by its entries, as saved from a request for
+	 * every year on a single page.
+	 *
+	 * @param directory The directory holding the recorded JSON files.
+	 * @throws IOException If the directory or a file can't be read.
+	 */
+	private void loadRecorded(Path directory) throws IOException {
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+				"*.json")) {
+			for (Path file : files) {
+				try (Reader reader = Files.newBufferedReader(file,
+						StandardCharsets.UTF_8)) {
+					JsonArray response = new JsonParser().parse(reader)
+							.getAsJsonArray();
+					
+					if (response.size() < 2 || !response.get(1).isJsonArray()) {
+						System.err.println("No entries recorded in " + file);
+						continue;
+					}
+					
+					for (JsonElement element : response.get(1).getAsJsonArray()) {
+						JsonObject entry = element.getAsJsonObject();
+						String key = entry.get("countryiso3code").getAsString()
+								.toUpperCase() + "/" + entry.getAsJsonObject(
+										"indicator").get("id").getAsString();
+						
+						recorded.computeIfAbsent(key,
+								ignored -> new ArrayList<JsonObject>()).add(entry);
+					}
+				} catch (RuntimeException err) {
+					throw new IOException("Could not read " + file + ": "
+							+ err.getMessage());
+				}
+			}
+		}
+		
+		// Keep the newest year first, as the World-Bank does.
+		for (List<JsonObject> entries : recorded.values()) {
+			entries.sort((first, second) -> Integer.compare(
+					second.get("date").getAsInt(), first.get("date").getAsInt()));
+		}
+	}
+	
+	/**
+	 * This function is used to answer a request with a body.
+	 *
+	 * @param exchange The request and its response.
+	 * @param status The HTTP status of the response.
+	 * @param body The body of the response.
+	 * @throws IOException If the response can't be sent.
+	 */
+	private static void sendBody(HttpExchange exchange, int status, byte[] body)
+			throws IOException {
+		if (body.length > 0) {
+			exchange.getResponseHeaders().set("Content-Type",
+					"application/json;charset=utf-8");
+		}
+		
+		exchange.sendResponseHeaders(status, body.length > 0 ? body.length : -1);
+		
+		if (body.length > 0) {
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+		}
+	}
+	
+	/**
+	 * This function is used to read the parameters of a query string.
+	 *
+	 * @param rawQuery The query string as it was sent, null if there is none.
+	 * @return The value of each parameter by name.
+	 */
+	private static Map<String, String> parseQuery(String rawQuery) {
+		HashMap<String, String> query = new HashMap<String, String>();
+		
+		if (rawQuery == null) { return query; }
+		
+		for (String pair : rawQuery.split("&")) {
+			int split = pair.indexOf('=');
+			
+			if (split < 0) { continue; }
+			
+			query.put(URLDecoder.decode(pair.substring(0, split),
+					StandardCharsets.UTF_8), URLDecoder.decode(
+							pair.substring(split + 1), StandardCharsets.UTF_8));
+		}
+		
+		return query;
+	}
+	
+	/**
+	 * This function is used to read a number given on the command line.
+	 *
+	 * @param value The text of the number.
+	 * @return The number.
+	 */
+	private static long parseNumber(String value) {
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException err) {
+			throw new IllegalArgumentException("Invalid number " + value);
+		}
+	}
+	
+	/**
+	 * This function is used to read a share of requests given on the command
+	 * line.
+	 *
+	 * @param value The text of the share, from 0 to 1.
+	 * @return The share.
+	 */
+	private static double parseRate(String value) {
+		try {
+			double rate = Double.parseDouble(value.trim());
+			
+			if (rate >= 0 && rate <= 1) { return rate; }
+		} catch (NumberFormatException err) {
+			// Reported below along with values out of range.
+		}
+		
+		throw new IllegalArgumentException("Invalid rate " + value);
+	}
+	
+	private
+	/**
+	 * Reference to the recorded entries of each country and indicator.
+	 */
+	final HashMap<String, List<JsonObject>> recorded;
+	
+	/**
+	 * Reference to the time each request is held for, in milliseconds.
+	 */
+	long latency = 0;
+	
+	/**
+	 * Reference to the most the latency varies either way, in milliseconds.
+	 */
+	long jitter = 0;
+	
+	/**
+	 * Reference to the number of requests answered each second, 0 for no
+	 * limit.
+	 */
+	int rateLimit = 0;
+	
+	/**
+	 * Reference to the share of requests answered with a server error.
+	 */
+	double errorRate = 0;
+	
+	/**
+	 * Reference to the random numbers used for the jitter and the errors.
+	 */
+	final Random random;
+	
+	/**
+	 * Reference to the time the current second of requests started.
+	 */
+	final AtomicLong windowStart;
+	
+	/**
+	 * Reference to the number of requests made in the current second.
+	 */
+	final AtomicInteger windowRequests;
+	
+	/**
+	 * Reference to the HTTP server answering the requests.
+	 */
+	final HttpServer server;
+	
+	/**
+	 * Reference to the threads the requests are handled on.
+	 */
+	final ExecutorService requestPool;
+	
+	/**
+	 * Reference to the path the indicators are served under.
+	 */
+	static final String contextPath = "/v2/";
+	
+	/**
+	 * Reference to the port listened on by default.
+	 */
+	static final int defaultPort = 8765;
+	
+	/**
+	 * Reference to the seed of the random numbers by default.
+	 */
+	static final long defaultSeed = 2212;
+	
+	/**
+	 * Reference to the years served when none are asked for.
+	 */
+	static final String defaultDates = "1960:2020";
+	
+	/**
+	 * Reference to the date given as the last update of the data.
+	 */
+	static final String lastUpdated = "2021-06-30";
+	
+	/**
+	 * Reference to how often a made up year is left without a value.
+	 */
+	static final int missingEvery = 9;
+	
+	/**
+	 * Reference to the number of connections left waiting to be accepted.
+	 */
+	static final int backlog = 4096;
+	
+	/**
+	 * Reference to the description of the command line options.
+	 */
+	static final String usage = "Usage: WorldBankStub [--port 8765]"
+			+ " [--data recorded_dir] [--latency ms] [--jitter ms]"
+			+ " [--rate requests_per_second] [--error-rate 0.05] [--seed n]";
+}